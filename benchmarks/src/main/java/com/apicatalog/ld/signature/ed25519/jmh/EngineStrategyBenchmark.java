@@ -0,0 +1,73 @@
+package com.apicatalog.ld.signature.ed25519.jmh;
+
+import java.util.HexFormat;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.apicatalog.ld.signature.SigningError;
+import com.apicatalog.ld.signature.VerificationError;
+import com.apicatalog.ld.signature.ed25519.Ed25519Signature2020Provider;
+import com.apicatalog.ld.signature.ed25519.EngineStrategy;
+
+/**
+ * Compares JCA engine strategies of the native provider. {@link EngineStrategy#PER_CALL}
+ * is the behavior before engines were reused. The public key cache is disabled
+ * to measure engine lookups only.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(4)
+public class EngineStrategyBenchmark {
+
+    // RFC 8032, 7.1. TEST 1
+    static final byte[] PRIVATE_KEY = HexFormat.of().parseHex("9d61b19deffd5a60ba844af492ec2cc44449c5697b326919703bac031cae7f60");
+    static final byte[] PUBLIC_KEY = HexFormat.of().parseHex("d75a980182b10ab7d54bfed3c964073a0ee172f3daa62325af021a68f707511a");
+
+    @Param({ "PER_CALL", "THREAD_LOCAL", "POOLED" })
+    EngineStrategy strategy;
+
+    Ed25519Signature2020Provider provider;
+
+    byte[] data;
+    byte[] signature;
+
+    @Setup
+    public void setup() throws SigningError {
+        provider = new Ed25519Signature2020Provider(strategy, null);
+
+        // a proof hash followed by a document hash
+        data = new byte[64];
+        for (int i = 0; i < data.length; i++) {
+            data[i] = (byte) i;
+        }
+
+        signature = provider.sign(PRIVATE_KEY, data);
+    }
+
+    @Benchmark
+    public byte[] sign() throws SigningError {
+        return provider.sign(PRIVATE_KEY, data);
+    }
+
+    @Benchmark
+    public boolean verify() throws VerificationError {
+        provider.verify(PUBLIC_KEY, signature, data);
+        return true;
+    }
+}
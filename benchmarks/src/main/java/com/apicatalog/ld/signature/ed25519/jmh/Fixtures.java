@@ -0,0 +1,95 @@
+package com.apicatalog.ld.signature.ed25519.jmh;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+
+import com.apicatalog.jsonld.JsonLd;
+import com.apicatalog.jsonld.JsonLdError;
+import com.apicatalog.jsonld.JsonLdErrorCode;
+import com.apicatalog.jsonld.document.Document;
+import com.apicatalog.jsonld.document.JsonDocument;
+import com.apicatalog.jsonld.loader.DocumentLoader;
+import com.apicatalog.jsonld.loader.DocumentLoaderOptions;
+import com.apicatalog.ld.DocumentError;
+import com.apicatalog.ld.signature.ed25519.Ed25519ContextLoader;
+import com.apicatalog.ld.signature.ed25519.Ed25519KeyAdapter;
+import com.apicatalog.ld.signature.key.KeyPair;
+import com.apicatalog.vc.loader.StaticContextLoader;
+
+import jakarta.json.JsonArray;
+import jakarta.json.JsonObject;
+
+/**
+ * Loads the test suite fixtures, bundled from <code>src/test/resources</code>.
+ */
+final class Fixtures {
+
+    static final String BASE = "https://github.com/filip26/iron-verifiable-credentials/";
+
+    static final String PATH = "/com/apicatalog/vc/";
+
+    static final DocumentLoader LOADER = new Ed25519ContextLoader(new StaticContextLoader(Fixtures::load));
+
+    private Fixtures() {
+        /* protected */
+    }
+
+    static URI uri(String name) {
+        return URI.create(BASE + name);
+    }
+
+    static JsonObject json(String name) {
+        try {
+            return load(uri(name), new DocumentLoaderOptions())
+                    .getJsonContent()
+                    .orElseThrow()
+                    .asJsonObject();
+
+        } catch (JsonLdError e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    static JsonObject expand(String name) {
+        try {
+            final JsonArray expanded = JsonLd.expand(uri(name)).loader(LOADER).get();
+            return expanded.getJsonObject(0);
+
+        } catch (JsonLdError e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    static KeyPair keyPair(String name) {
+        try {
+            return (KeyPair) Ed25519KeyAdapter.from(expand(name));
+
+        } catch (DocumentError e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    static Document load(URI url, DocumentLoaderOptions options) throws JsonLdError {
+
+        final String location = url.toString();
+
+        if (!location.startsWith(BASE)) {
+            throw new JsonLdError(JsonLdErrorCode.LOADING_DOCUMENT_FAILED, "Unknown document [" + url + "].");
+        }
+
+        try (final InputStream is = Fixtures.class.getResourceAsStream(PATH + location.substring(BASE.length()))) {
+
+            if (is == null) {
+                throw new JsonLdError(JsonLdErrorCode.LOADING_DOCUMENT_FAILED, "Unknown document [" + url + "].");
+            }
+
+            final Document document = JsonDocument.of(is);
+            document.setDocumentUrl(url);
+            return document;
+
+        } catch (IOException e) {
+            throw new JsonLdError(JsonLdErrorCode.LOADING_DOCUMENT_FAILED, e);
+        }
+    }
+}
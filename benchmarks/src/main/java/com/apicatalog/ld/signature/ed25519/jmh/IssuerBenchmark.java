@@ -0,0 +1,82 @@
+package com.apicatalog.ld.signature.ed25519.jmh;
+
+import java.net.URI;
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.apicatalog.ld.DocumentError;
+import com.apicatalog.ld.signature.SigningError;
+import com.apicatalog.ld.signature.ed25519.Ed25519Signature2020;
+import com.apicatalog.ld.signature.ed25519.Ed25519Signature2020Issuer;
+import com.apicatalog.ld.signature.ed25519.Ed25519Signature2020ProofDraft;
+import com.apicatalog.vc.issuer.ProofDraft;
+import com.apicatalog.vc.processor.ExpandedVerifiable;
+
+import jakarta.json.JsonObject;
+
+/**
+ * Issuing of the test suite fixtures, with a regular or a compiled proof draft.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class IssuerBenchmark {
+
+    @Param({
+            "issuer/0001-in.jsonld",
+            "issuer/0002-in.jsonld",
+            "issuer/0006-in.jsonld"
+    })
+    String input;
+
+    @Param({ "false", "true" })
+    boolean compiled;
+
+    Ed25519Signature2020Issuer issuer;
+
+    ProofDraft draft;
+
+    JsonObject document;
+
+    @Setup
+    public void setup() throws SigningError {
+        issuer = new Ed25519Signature2020().createIssuer(Fixtures.keyPair("issuer/0001-keys.json"));
+        issuer.loader(Fixtures.LOADER);
+
+        final Ed25519Signature2020ProofDraft proofDraft = Ed25519Signature2020.createDraft(
+                Fixtures.uri("verifier/0005-verification-key.json"),
+                URI.create("https://w3id.org/security#assertionMethod"));
+
+        proofDraft.created(Instant.parse("2022-05-28T17:02:05Z"));
+
+        draft = compiled ? proofDraft.compile() : proofDraft;
+
+        document = Fixtures.json(input);
+    }
+
+    @TearDown
+    public void tearDown() {
+        issuer.close();
+    }
+
+    @Benchmark
+    public ExpandedVerifiable sign() throws SigningError, DocumentError {
+        return issuer.sign(document, draft);
+    }
+}
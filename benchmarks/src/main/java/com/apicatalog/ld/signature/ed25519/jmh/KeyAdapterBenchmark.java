@@ -0,0 +1,48 @@
+package com.apicatalog.ld.signature.ed25519.jmh;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.apicatalog.ld.DocumentError;
+import com.apicatalog.ld.signature.VerificationMethod;
+import com.apicatalog.ld.signature.ed25519.Ed25519KeyAdapter;
+
+import jakarta.json.JsonObject;
+
+/**
+ * Decoding of expanded verification methods and key pairs.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class KeyAdapterBenchmark {
+
+    @Param({ "verifier/0005-verification-key.json", "issuer/0001-keys.json" })
+    String key;
+
+    JsonObject expanded;
+
+    @Setup
+    public void setup() {
+        expanded = Fixtures.expand(key);
+    }
+
+    @Benchmark
+    public VerificationMethod from() throws DocumentError {
+        return Ed25519KeyAdapter.from(expanded);
+    }
+}
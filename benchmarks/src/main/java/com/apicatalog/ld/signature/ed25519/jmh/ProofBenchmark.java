@@ -0,0 +1,58 @@
+package com.apicatalog.ld.signature.ed25519.jmh;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.apicatalog.ld.DocumentError;
+import com.apicatalog.ld.signature.ed25519.Ed25519Signature2020;
+import com.apicatalog.vc.VcVocab;
+import com.apicatalog.vc.proof.Proof;
+
+import jakarta.json.JsonObject;
+
+/**
+ * Parsing of an expanded proof.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ProofBenchmark {
+
+    @Param({ "verifier/0001-in.jsonld", "verifier/0003-in.jsonld" })
+    String input;
+
+    Ed25519Signature2020 suite;
+
+    JsonObject proof;
+
+    @Setup
+    public void setup() {
+        suite = new Ed25519Signature2020();
+
+        // the first proof graph
+        proof = Fixtures.expand(input)
+                .getJsonArray(VcVocab.SECURITY_VOCAB + "proof")
+                .getJsonObject(0)
+                .getJsonArray("@graph")
+                .getJsonObject(0);
+    }
+
+    @Benchmark
+    public Proof getProof() throws DocumentError {
+        return suite.getProof(proof, Fixtures.LOADER);
+    }
+}
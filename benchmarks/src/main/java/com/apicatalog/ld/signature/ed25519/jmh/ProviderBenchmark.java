@@ -0,0 +1,95 @@
+package com.apicatalog.ld.signature.ed25519.jmh;
+
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.apicatalog.ld.signature.SigningError;
+import com.apicatalog.ld.signature.VerificationError;
+import com.apicatalog.ld.signature.algorithm.SignatureAlgorithm;
+import com.apicatalog.ld.signature.ed25519.BatchEntry;
+import com.apicatalog.ld.signature.ed25519.BatchSignatureAlgorithm;
+import com.apicatalog.ld.signature.ed25519.Ed25519Signature2020;
+
+/**
+ * Compares the native (JCA) and the pure Java providers, see
+ * {@link Ed25519Signature2020#PROVIDER_PROPERTY}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ProviderBenchmark {
+
+    // RFC 8032, 7.1. TEST 1
+    static final byte[] PRIVATE_KEY = HexFormat.of().parseHex("9d61b19deffd5a60ba844af492ec2cc44449c5697b326919703bac031cae7f60");
+    static final byte[] PUBLIC_KEY = HexFormat.of().parseHex("d75a980182b10ab7d54bfed3c964073a0ee172f3daa62325af021a68f707511a");
+
+    static final int BATCH = 64;
+
+    @Param({ "native", "java" })
+    String provider;
+
+    SignatureAlgorithm algorithm;
+
+    byte[] data;
+    byte[] signature;
+
+    List<BatchEntry> batch;
+
+    @Setup
+    public void setup() throws SigningError {
+        algorithm = Ed25519Signature2020.createProvider(provider);
+
+        // a proof hash followed by a document hash
+        data = new byte[64];
+        for (int i = 0; i < data.length; i++) {
+            data[i] = (byte) i;
+        }
+
+        signature = algorithm.sign(PRIVATE_KEY, data);
+
+        batch = new ArrayList<>(BATCH);
+        for (int i = 0; i < BATCH; i++) {
+            final byte[] message = data.clone();
+            message[0] = (byte) i;
+            batch.add(new BatchEntry(PUBLIC_KEY, algorithm.sign(PRIVATE_KEY, message), message));
+        }
+    }
+
+    @Benchmark
+    public byte[] sign() throws SigningError {
+        return algorithm.sign(PRIVATE_KEY, data);
+    }
+
+    @Benchmark
+    public boolean verify() throws VerificationError {
+        algorithm.verify(PUBLIC_KEY, signature, data);
+        return true;
+    }
+
+    /**
+     * Verifies {@value #BATCH} signatures at once.
+     */
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public boolean[] verifyBatch() {
+        return ((BatchSignatureAlgorithm) algorithm).verify(batch);
+    }
+}
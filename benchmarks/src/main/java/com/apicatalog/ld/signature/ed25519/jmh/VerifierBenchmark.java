@@ -0,0 +1,63 @@
+package com.apicatalog.ld.signature.ed25519.jmh;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.apicatalog.ld.DocumentError;
+import com.apicatalog.ld.signature.VerificationError;
+import com.apicatalog.ld.signature.ed25519.Ed25519Signature2020;
+import com.apicatalog.vc.Verifiable;
+import com.apicatalog.vc.verifier.Verifier;
+
+import jakarta.json.JsonObject;
+
+/**
+ * A full verification of the valid test suite fixtures, i.e. expansion,
+ * canonicalization, hashing and signature verification.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class VerifierBenchmark {
+
+    @Param({
+            "verifier/0001-in.jsonld",
+            "verifier/0003-in.jsonld",
+            "verifier/0004-in.jsonld",
+            "verifier/0006-in.jsonld",
+            "verifier/0007-in.jsonld"
+    })
+    String input;
+
+    Verifier verifier;
+
+    JsonObject document;
+
+    @Setup
+    public void setup() throws VerificationError, DocumentError {
+        verifier = Verifier.with(new Ed25519Signature2020()).loader(Fixtures.LOADER);
+        document = Fixtures.json(input);
+
+        // fail fast on an invalid fixture
+        verifier.verify(document);
+    }
+
+    @Benchmark
+    public Verifiable verify() throws VerificationError, DocumentError {
+        return verifier.verify(document);
+    }
+}
@@ -0,0 +1,67 @@
+package com.apicatalog.ld.signature.ed25519;
+
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+import com.apicatalog.vc.issuer.Issuer;
+import com.apicatalog.vc.issuer.ProofDraft;
+import com.apicatalog.vc.processor.ExpandedVerifiable;
+
+import jakarta.json.JsonObject;
+
+/**
+ * Issues documents asynchronously. Remote contexts referenced by a document
+ * are prefetched by {@link Ed25519ContextLoader#loadDocumentAsync}, so
+ * concurrent issuances waiting for the same context do not hold a thread
+ * each. A signing task is submitted to the executor when all the contexts are
+ * available.
+ * <p>
+ * The issuer must be configured to use the given loader.
+ * </p>
+ */
+public class AsyncIssuer {
+
+    protected final Issuer issuer;
+    protected final Ed25519ContextLoader loader;
+    protected final Executor executor;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param issuer   an issuer using the given loader
+     * @param loader   a loader used to prefetch contexts
+     * @param executor an executor running loads and signing
+     */
+    public AsyncIssuer(Issuer issuer, Ed25519ContextLoader loader, Executor executor) {
+        this.issuer = Objects.requireNonNull(issuer);
+        this.loader = Objects.requireNonNull(loader);
+        this.executor = Objects.requireNonNull(executor);
+    }
+
+    /**
+     * Signs the given document. The returned future completes exceptionally
+     * with {@link com.apicatalog.ld.signature.SigningError} or
+     * {@link com.apicatalog.ld.DocumentError} if the signing fails.
+     *
+     * @param document a document to sign
+     * @param draft    a proof draft
+     * @return a future signed document
+     */
+    public CompletableFuture<ExpandedVerifiable> sign(JsonObject document, ProofDraft draft) {
+
+        final CompletableFuture<ExpandedVerifiable> result = new CompletableFuture<>();
+
+        loader.prefetch(document, executor).whenComplete((ignored, failure) -> executor.execute(() -> {
+            // a failed prefetch is reported by the issuer
+            try {
+                result.complete(issuer.sign(document, draft));
+
+            } catch (Throwable e) {
+                result.completeExceptionally(e);
+            }
+        }));
+
+        return result;
+    }
+}
@@ -0,0 +1,73 @@
+package com.apicatalog.ld.signature.ed25519;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+import com.apicatalog.vc.Verifiable;
+import com.apicatalog.vc.verifier.Verifier;
+
+import jakarta.json.JsonObject;
+
+/**
+ * Verifies documents asynchronously. Remote contexts referenced by a document
+ * are prefetched by {@link Ed25519ContextLoader#loadDocumentAsync}, so
+ * concurrent verifications waiting for the same context do not hold a thread
+ * each. A verification task is submitted to the executor when all the
+ * contexts are available.
+ * <p>
+ * The verifier must be configured to use the given loader.
+ * </p>
+ */
+public class AsyncVerifier {
+
+    protected final Verifier verifier;
+    protected final Ed25519ContextLoader loader;
+    protected final Executor executor;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param verifier a verifier using the given loader
+     * @param loader   a loader used to prefetch contexts
+     * @param executor an executor running loads and verifications
+     */
+    public AsyncVerifier(Verifier verifier, Ed25519ContextLoader loader, Executor executor) {
+        this.verifier = Objects.requireNonNull(verifier);
+        this.loader = Objects.requireNonNull(loader);
+        this.executor = Objects.requireNonNull(executor);
+    }
+
+    public CompletableFuture<Verifiable> verify(JsonObject document) {
+        return verify(document, null);
+    }
+
+    /**
+     * Verifies the given document. The returned future completes exceptionally
+     * with {@link com.apicatalog.ld.signature.VerificationError} or
+     * {@link com.apicatalog.ld.DocumentError} if the verification fails.
+     *
+     * @param document a document to verify
+     * @param params   optional runtime parameters, e.g. domain, challenge
+     * @return a future verified document
+     */
+    public CompletableFuture<Verifiable> verify(JsonObject document, Map<String, Object> params) {
+
+        final CompletableFuture<Verifiable> result = new CompletableFuture<>();
+
+        loader.prefetch(document, executor).whenComplete((ignored, failure) -> executor.execute(() -> {
+            // a failed prefetch is reported by the verifier
+            try {
+                result.complete(params != null
+                        ? verifier.verify(document, params)
+                        : verifier.verify(document));
+
+            } catch (Throwable e) {
+                result.completeExceptionally(e);
+            }
+        }));
+
+        return result;
+    }
+}
@@ -0,0 +1,203 @@
+package com.apicatalog.ld.signature.ed25519;
+
+import java.util.Arrays;
+
+import com.apicatalog.base.Base58;
+import com.apicatalog.multibase.Multibase;
+
+/**
+ * A base58btc codec specialised for Ed25519 values, i.e. 32 and 34 byte
+ * multicodec keys and 64 byte signatures. Values up to 64 bytes are processed
+ * as 32-bit limbs held in <code>long</code>s, five base58 digits at a time.
+ * Other values are processed by the generic {@link Base58} codec. The output
+ * is identical to {@link Multibase#BASE_58_BTC}.
+ */
+public final class Base58Btc {
+
+    /**
+     * A drop-in replacement of {@link Multibase#BASE_58_BTC}.
+     */
+    public static final Multibase MULTIBASE = new Multibase('z', 58, Base58Btc::decode, Base58Btc::encode);
+
+    // a maximal number of bytes encoded by a fast path
+    static final int MAX_BYTES = 64;
+
+    // a maximal number of characters decoded by a fast path, ceil(64 * log(256) / log(58))
+    static final int MAX_CHARS = 88;
+
+    // limbs needed to hold any value of MAX_CHARS digits, i.e. < 2^516
+    static final int MAX_LIMBS = 17;
+
+    // 58^5, five digits fit into a 32-bit limb
+    static final long RADIX_5 = 656_356_768L;
+
+    static final long[] RADIX_POW = { 1L, 58L, 58L * 58, 58L * 58 * 58, 58L * 58 * 58 * 58, RADIX_5 };
+
+    static final long LIMB_MASK = 0xffffffffL;
+
+    static final char[] ALPHABET = "123456789ABCDEFGHJKLMNPQRSTUVWXYZabcdefghijkmnopqrstuvwxyz".toCharArray();
+
+    static final char ENCODED_ZERO = ALPHABET[0];
+
+    static final byte[] INDEXES = new byte[128];
+
+    static {
+        Arrays.fill(INDEXES, (byte) -1);
+        for (int i = 0; i < ALPHABET.length; i++) {
+            INDEXES[ALPHABET[i]] = (byte) i;
+        }
+    }
+
+    private Base58Btc() {
+        /* protected */
+    }
+
+    /**
+     * Encodes the given bytes, without a multibase prefix.
+     *
+     * @param data bytes to encode
+     * @return base58btc encoded bytes
+     */
+    public static String encode(final byte[] data) {
+
+        if (data.length > MAX_BYTES) {
+            return Base58.encode(data);
+        }
+
+        if (data.length == 0) {
+            return "";
+        }
+
+        int zeros = 0;
+        while (zeros < data.length && data[zeros] == 0) {
+            zeros++;
+        }
+
+        // big-endian bytes to little-endian 32-bit limbs
+        final long[] limbs = new long[MAX_BYTES / 4];
+
+        int length = 0;
+
+        for (int end = data.length; end > zeros; end -= 4) {
+            final int start = Math.max(zeros, end - 4);
+            long limb = 0;
+            for (int i = start; i < end; i++) {
+                limb = (limb << 8) | (data[i] & 0xff);
+            }
+            limbs[length++] = limb;
+        }
+
+        // the most significant chunk is padded to five digits
+        final char[] encoded = new char[data.length * 2 + 5];
+        int index = encoded.length;
+
+        while (length > 0) {
+
+            long remainder = 0;
+
+            for (int i = length - 1; i >= 0; i--) {
+                final long value = (remainder << 32) | limbs[i];
+                limbs[i] = value / RADIX_5;
+                remainder = value % RADIX_5;
+            }
+
+            if (limbs[length - 1] == 0) {
+                length--;
+            }
+
+            // unrolled, five digits per limb
+            final int r = (int) remainder;
+            encoded[--index] = ALPHABET[r % 58];
+            encoded[--index] = ALPHABET[r / 58 % 58];
+            encoded[--index] = ALPHABET[r / (58 * 58) % 58];
+            encoded[--index] = ALPHABET[r / (58 * 58 * 58) % 58];
+            encoded[--index] = ALPHABET[r / (58 * 58 * 58 * 58)];
+        }
+
+        // strip padding of the most significant chunk
+        while (index < encoded.length && encoded[index] == ENCODED_ZERO) {
+            index++;
+        }
+
+        while (zeros-- > 0) {
+            encoded[--index] = ENCODED_ZERO;
+        }
+
+        return new String(encoded, index, encoded.length - index);
+    }
+
+    /**
+     * Decodes the given base58btc string, without a multibase prefix.
+     *
+     * @param encoded base58btc encoded bytes
+     * @return decoded bytes
+     * @throws IllegalArgumentException if the string contains a character
+     *                                  outside of the alphabet
+     */
+    public static byte[] decode(final String encoded) {
+
+        if (encoded.length() > MAX_CHARS) {
+            return Base58.decode(encoded);
+        }
+
+        int zeros = 0;
+        while (zeros < encoded.length() && encoded.charAt(zeros) == ENCODED_ZERO) {
+            zeros++;
+        }
+
+        final long[] limbs = new long[MAX_LIMBS];
+
+        int length = 0;
+
+        // the first chunk takes the remainder so the others are full
+        int index = zeros;
+        int chunk = (encoded.length() - zeros) % 5;
+        if (chunk == 0) {
+            chunk = 5;
+        }
+
+        while (index < encoded.length()) {
+
+            long carry = 0;
+            for (final int end = index + chunk; index < end; index++) {
+                carry = carry * 58 + digit(encoded.charAt(index));
+            }
+
+            final long radix = RADIX_POW[chunk];
+
+            for (int i = 0; i < length; i++) {
+                final long value = limbs[i] * radix + carry;
+                limbs[i] = value & LIMB_MASK;
+                carry = value >>> 32;
+            }
+
+            if (carry != 0) {
+                limbs[length++] = carry;
+            }
+
+            chunk = 5;
+        }
+
+        // little-endian limbs to big-endian bytes, without leading zeros
+        int bytes = length * 4;
+        if (length > 0) {
+            bytes -= Long.numberOfLeadingZeros(limbs[length - 1]) / 8 - 4;
+        }
+
+        final byte[] decoded = new byte[zeros + bytes];
+
+        for (int i = 0, offset = decoded.length - 1; i < bytes; i++, offset--) {
+            decoded[offset] = (byte) (limbs[i >>> 2] >>> ((i & 3) * 8));
+        }
+
+        return decoded;
+    }
+
+    static int digit(final char ch) {
+        final int digit = ch < 128 ? INDEXES[ch] : -1;
+        if (digit < 0) {
+            throw new IllegalArgumentException(String.format("Invalid character in Base58: 0x%04x", (int) ch));
+        }
+        return digit;
+    }
+}
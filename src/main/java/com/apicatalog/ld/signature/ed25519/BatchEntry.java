@@ -0,0 +1,14 @@
+package com.apicatalog.ld.signature.ed25519;
+
+/**
+ * A signature to verify as a part of a batch.
+ *
+ * @param publicKey a raw public key
+ * @param signature a signature
+ * @param data      signed data
+ */
+public record BatchEntry(
+        byte[] publicKey,
+        byte[] signature,
+        byte[] data) {
+}
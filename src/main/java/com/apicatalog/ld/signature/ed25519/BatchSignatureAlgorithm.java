@@ -0,0 +1,20 @@
+package com.apicatalog.ld.signature.ed25519;
+
+import java.util.List;
+
+import com.apicatalog.ld.signature.algorithm.SignatureAlgorithm;
+
+/**
+ * A signature algorithm able to verify many signatures at once.
+ */
+public interface BatchSignatureAlgorithm extends SignatureAlgorithm {
+
+    /**
+     * Verifies the given signatures.
+     *
+     * @param batch signatures to verify
+     * @return verification results in the same order as the given entries,
+     *         <code>true</code> if a signature is valid
+     */
+    boolean[] verify(List<BatchEntry> batch);
+}
@@ -0,0 +1,277 @@
+package com.apicatalog.ld.signature.ed25519;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A bounded, thread-safe cache. Reads are lock-free; once the capacity is
+ * exceeded the oldest entries are evicted, either in insertion order
+ * ({@link Eviction#FIFO}) or giving recently read entries a second chance
+ * ({@link Eviction#LRU}, a CLOCK approximation of least recently used).
+ * Entries can optionally expire after a time-to-live.
+ *
+ * @param <K> a key type, must implement {@link Object#equals(Object)} and
+ *            {@link Object#hashCode()}
+ * @param <V> a value type
+ */
+public final class BoundedCache<K, V> {
+
+    public enum Eviction {
+        LRU,
+        FIFO
+    }
+
+    static final class Entry<K, V> {
+
+        final K key;
+        final V value;
+
+        // System.nanoTime() based expiration time, 0 if the entry never expires
+        final long expires;
+
+        volatile boolean referenced;
+
+        Entry(K key, V value, long expires) {
+            this.key = key;
+            this.value = value;
+            this.expires = expires;
+        }
+
+        boolean isExpired(long now) {
+            return expires != 0 && now - expires >= 0;
+        }
+    }
+
+    protected final int capacity;
+    protected final Eviction eviction;
+    protected final Duration ttl;
+
+    protected final ConcurrentHashMap<K, Entry<K, V>> entries;
+
+    // entries in eviction order, an entry no longer mapped to its key is stale
+    protected final ConcurrentLinkedQueue<Entry<K, V>> order;
+
+    // a number of queued entries, stale ones included
+    protected final AtomicInteger queued;
+
+    protected final LongAdder hits;
+    protected final LongAdder misses;
+    protected final LongAdder evictions;
+    protected final LongAdder expirations;
+
+    public BoundedCache(int capacity) {
+        this(capacity, Eviction.LRU);
+    }
+
+    public BoundedCache(int capacity, Eviction eviction) {
+        this(capacity, eviction, null);
+    }
+
+    /**
+     * Creates a new cache.
+     *
+     * @param capacity a maximal number of entries
+     * @param eviction an eviction policy
+     * @param ttl      a default time-to-live of an entry, <code>null</code> if
+     *                 entries do not expire
+     */
+    public BoundedCache(int capacity, Eviction eviction, Duration ttl) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("The capacity must be greater than zero but was " + capacity + ".");
+        }
+        if (ttl != null && (ttl.isNegative() || ttl.isZero())) {
+            throw new IllegalArgumentException("The time-to-live must be positive but was " + ttl + ".");
+        }
+        this.capacity = capacity;
+        this.eviction = Objects.requireNonNull(eviction);
+        this.ttl = ttl;
+        this.entries = new ConcurrentHashMap<>(Math.min(capacity, 1024));
+        this.order = new ConcurrentLinkedQueue<>();
+        this.queued = new AtomicInteger();
+        this.hits = new LongAdder();
+        this.misses = new LongAdder();
+        this.evictions = new LongAdder();
+        this.expirations = new LongAdder();
+    }
+
+    /**
+     * Returns a cached value or <code>null</code> if there is no value
+     * associated with the given key.
+     *
+     * @param key a key to look up
+     * @return a cached value or <code>null</code>
+     */
+    public V get(final K key) {
+
+        final Entry<K, V> entry = entries.get(key);
+
+        if (entry == null) {
+            misses.increment();
+            return null;
+        }
+
+        if (entry.isExpired(System.nanoTime())) {
+            if (entries.remove(key, entry)) {
+                expirations.increment();
+            }
+            misses.increment();
+            return null;
+        }
+
+        hits.increment();
+
+        if (!entry.referenced) {
+            entry.referenced = true;
+        }
+        return entry.value;
+    }
+
+    public void put(final K key, final V value) {
+        put(key, value, ttl);
+    }
+
+    /**
+     * Associates the given value with the given key.
+     *
+     * @param key   a key
+     * @param value a value
+     * @param ttl   a time-to-live of the entry, <code>null</code> if the entry
+     *              does not expire
+     */
+    public void put(final K key, final V value, final Duration ttl) {
+
+        Objects.requireNonNull(key);
+        Objects.requireNonNull(value);
+
+        final long expires = ttl != null ? (System.nanoTime() + ttl.toNanos()) | 1 : 0;
+
+        final Entry<K, V> entry = new Entry<>(key, value, expires);
+
+        entries.put(key, entry);
+
+        // queued once mapped, never polled as stale, a replaced entry stays
+        // queued until polled
+        order.offer(entry);
+
+        if (queued.incrementAndGet() > 2 * capacity) {
+            purge();
+        }
+
+        while (entries.size() > capacity) {
+            if (!evict()) {
+                break;
+            }
+        }
+    }
+
+    /**
+     * Removes the given key. The removed entry stays queued as stale until
+     * polled.
+     *
+     * @param key a key to remove
+     */
+    public void remove(final K key) {
+        entries.remove(key);
+    }
+
+    public void clear() {
+        entries.clear();
+        order.clear();
+        queued.set(0);
+    }
+
+    // drops stale entries once they outnumber the capacity, a linear scan
+    // amortized over at least capacity puts
+    protected void purge() {
+        order.removeIf(entry -> {
+            if (entries.get(entry.key) != entry) {
+                queued.decrementAndGet();
+                return true;
+            }
+            return false;
+        });
+    }
+
+    protected boolean evict() {
+
+        final Entry<K, V> entry = order.poll();
+
+        if (entry == null) {
+            return false;
+        }
+
+        queued.decrementAndGet();
+
+        // removed or replaced in the meantime, a new entry is queued on its own
+        if (entries.get(entry.key) != entry) {
+            return true;
+        }
+
+        if (entry.isExpired(System.nanoTime())) {
+            if (entries.remove(entry.key, entry)) {
+                expirations.increment();
+            }
+            return true;
+        }
+
+        if (Eviction.LRU == eviction && entry.referenced) {
+            entry.referenced = false;
+            order.offer(entry);
+            queued.incrementAndGet();
+            return true;
+        }
+
+        if (entries.remove(entry.key, entry)) {
+            evictions.increment();
+        }
+        return true;
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    public int capacity() {
+        return capacity;
+    }
+
+    public Eviction eviction() {
+        return eviction;
+    }
+
+    /**
+     * Returns a default time-to-live of an entry.
+     *
+     * @return a time-to-live or <code>null</code> if entries do not expire
+     */
+    public Duration ttl() {
+        return ttl;
+    }
+
+    public long hits() {
+        return hits.sum();
+    }
+
+    public long misses() {
+        return misses.sum();
+    }
+
+    public long evictions() {
+        return evictions.sum();
+    }
+
+    public long expirations() {
+        return expirations.sum();
+    }
+
+    @Override
+    public String toString() {
+        return "BoundedCache [capacity=" + capacity + ", eviction=" + eviction + ", ttl=" + ttl + ", size=" + size()
+                + ", hits=" + hits() + ", misses=" + misses() + ", evictions=" + evictions()
+                + ", expirations=" + expirations() + "]";
+    }
+}
@@ -0,0 +1,69 @@
+package com.apicatalog.ld.signature.ed25519;
+
+import java.nio.ByteBuffer;
+
+import com.apicatalog.ld.signature.SigningError;
+import com.apicatalog.ld.signature.VerificationError;
+import com.apicatalog.ld.signature.algorithm.SignatureAlgorithm;
+
+/**
+ * A signature algorithm reading keys, signatures and data in place, from array
+ * slices or byte buffers, heap or direct, e.g. pooled network buffers. Data is
+ * not copied, a buffer is read from its position to its limit and its position
+ * is not changed.
+ */
+public interface BufferSignatureAlgorithm extends SignatureAlgorithm {
+
+    /**
+     * Verifies the given signature.
+     *
+     * @param publicKey       an array holding 32 bytes public key
+     * @param publicKeyOffset an offset of the public key
+     * @param signature       an array holding 64 bytes signature
+     * @param signatureOffset an offset of the signature
+     * @param data            an array holding signed data
+     * @param offset          an offset of the data
+     * @param length          a length of the data
+     * @throws VerificationError         if the signature is not valid
+     * @throws IndexOutOfBoundsException if a slice is out of bounds of its
+     *                                   array
+     */
+    void verify(byte[] publicKey, int publicKeyOffset, byte[] signature, int signatureOffset, byte[] data, int offset, int length) throws VerificationError;
+
+    /**
+     * Verifies the given signature.
+     *
+     * @param publicKey 32 bytes public key
+     * @param signature 64 bytes signature
+     * @param data      signed data
+     * @throws VerificationError if the signature is not valid
+     */
+    void verify(ByteBuffer publicKey, ByteBuffer signature, ByteBuffer data) throws VerificationError;
+
+    /**
+     * Signs the given data slice.
+     *
+     * @param privateKey 32 bytes private key
+     * @param data       an array holding data to sign
+     * @param offset     an offset of the data
+     * @param length     a length of the data
+     * @return a signature
+     * @throws SigningError              if the data cannot be signed
+     * @throws IndexOutOfBoundsException if the slice is out of bounds of the
+     *                                   array
+     */
+    byte[] sign(byte[] privateKey, byte[] data, int offset, int length) throws SigningError;
+
+    /**
+     * Signs the given data and puts a signature to the given buffer, the
+     * signature buffer position is advanced.
+     *
+     * @param privateKey 32 bytes private key
+     * @param data       data to sign
+     * @param signature  a buffer receiving a signature
+     * @throws SigningError                       if the data cannot be signed
+     * @throws java.nio.BufferOverflowException if there is not enough space in
+     *                                            the signature buffer
+     */
+    void sign(byte[] privateKey, ByteBuffer data, ByteBuffer signature) throws SigningError;
+}
@@ -0,0 +1,189 @@
+package com.apicatalog.ld.signature.ed25519;
+
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import com.apicatalog.ld.signature.SigningError;
+import com.apicatalog.vc.issuer.Issuer;
+import com.apicatalog.vc.issuer.ProofDraft;
+
+import jakarta.json.JsonObject;
+
+/**
+ * Issues a stream of documents with one proof draft template. Documents are
+ * signed and compacted concurrently on the given executor, at most
+ * <code>window</code> documents are in flight, and results are emitted in
+ * input order. A failure of one document does not stop the stream, it's
+ * reported as a {@link Result}.
+ */
+public class BulkIssuer {
+
+    /**
+     * A result of issuing a single document.
+     *
+     * @param index  a zero based position of the input document
+     * @param signed a compacted signed document or <code>null</code> if
+     *               issuance failed
+     * @param error  an error or <code>null</code> if the document has been
+     *               issued
+     */
+    public record Result(long index, JsonObject signed, Throwable error) {
+
+        public boolean isIssued() {
+            return error == null;
+        }
+    }
+
+    protected final Issuer issuer;
+    protected final Executor executor;
+    protected final int window;
+
+    protected final LongAdder issued;
+    protected final LongAdder failed;
+
+    // System.nanoTime() of the first issuance, 0 if not started
+    protected final AtomicLong started;
+
+    /**
+     * Creates a new bulk issuer.
+     *
+     * @param issuer   an issuer, e.g. created by
+     *                 {@link Ed25519Signature2020#createIssuer(com.apicatalog.ld.signature.key.KeyPair)}
+     * @param executor an executor running issuance tasks
+     * @param window   a maximal number of documents in flight
+     */
+    public BulkIssuer(Issuer issuer, Executor executor, int window) {
+        if (window <= 0) {
+            throw new IllegalArgumentException("The window must be greater than zero but was " + window + ".");
+        }
+        this.issuer = Objects.requireNonNull(issuer);
+        this.executor = Objects.requireNonNull(executor);
+        this.window = window;
+        this.issued = new LongAdder();
+        this.failed = new LongAdder();
+        this.started = new AtomicLong();
+    }
+
+    /**
+     * Issues the given documents. The template is compiled once, see
+     * {@link Ed25519Signature2020ProofDraft#compile()}. The documents are pulled
+     * lazily as results are consumed.
+     *
+     * @param documents documents to issue
+     * @param template  a proof draft applied to all documents
+     * @return ordered results
+     * @throws SigningError if the template cannot be compiled
+     */
+    public Stream<Result> sign(Stream<JsonObject> documents, Ed25519Signature2020ProofDraft template) throws SigningError {
+        return StreamSupport.stream(
+                Spliterators.spliteratorUnknownSize(
+                        sign(documents.iterator(), template),
+                        Spliterator.ORDERED | Spliterator.NONNULL),
+                false)
+                .onClose(documents::close);
+    }
+
+    /**
+     * Issues the given documents. The template is compiled once, see
+     * {@link Ed25519Signature2020ProofDraft#compile()}. The documents are pulled
+     * lazily as results are consumed.
+     *
+     * @param documents documents to issue
+     * @param template  a proof draft applied to all documents
+     * @return ordered results
+     * @throws SigningError if the template cannot be compiled
+     */
+    public Iterator<Result> sign(Iterator<JsonObject> documents, Ed25519Signature2020ProofDraft template) throws SigningError {
+
+        final ProofDraft draft = template.compile();
+
+        final Iterator<Indexed> indexed = new Iterator<>() {
+
+            long index = 0;
+
+            @Override
+            public boolean hasNext() {
+                return documents.hasNext();
+            }
+
+            @Override
+            public Indexed next() {
+                return new Indexed(index++, documents.next());
+            }
+        };
+
+        started.compareAndSet(0, System.nanoTime() | 1);
+
+        return new OrderedPipeline<>(indexed, item -> issue(item, draft), executor, window);
+    }
+
+    Result issue(Indexed item, ProofDraft draft) {
+        try {
+            final JsonObject signed = issuer.sign(item.document, draft).compacted();
+            issued.increment();
+            return new Result(item.index, signed, null);
+
+        } catch (Error e) {
+            throw e;
+
+        } catch (Throwable e) {
+            failed.increment();
+            return new Result(item.index, null, e);
+        }
+    }
+
+    static final class Indexed {
+
+        final long index;
+        final JsonObject document;
+
+        Indexed(long index, JsonObject document) {
+            this.index = index;
+            this.document = document;
+        }
+    }
+
+    /**
+     * Returns a number of issued documents.
+     *
+     * @return a number of documents
+     */
+    public long issued() {
+        return issued.sum();
+    }
+
+    /**
+     * Returns a number of documents that failed to be issued.
+     *
+     * @return a number of documents
+     */
+    public long failed() {
+        return failed.sum();
+    }
+
+    /**
+     * Returns an average number of processed, issued or failed, documents per
+     * second since the first call of <code>sign</code>.
+     *
+     * @return documents per second
+     */
+    public double throughput() {
+        final long start = started.get();
+        if (start == 0) {
+            return 0;
+        }
+        final long elapsed = System.nanoTime() - start;
+        return elapsed > 0 ? (issued.sum() + failed.sum()) * 1e9 / elapsed : 0;
+    }
+
+    public int window() {
+        return window;
+    }
+}
@@ -0,0 +1,381 @@
+package com.apicatalog.ld.signature.ed25519;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import com.apicatalog.jsonld.JsonLdError;
+import com.apicatalog.jsonld.document.Document;
+import com.apicatalog.jsonld.document.JsonDocument;
+
+import jakarta.json.JsonArray;
+import jakarta.json.JsonArrayBuilder;
+import jakarta.json.JsonNumber;
+import jakarta.json.JsonObject;
+import jakarta.json.JsonObjectBuilder;
+import jakarta.json.JsonString;
+import jakarta.json.JsonStructure;
+import jakarta.json.JsonValue;
+import jakarta.json.spi.JsonProvider;
+
+/**
+ * A compact binary snapshot of well-known JSON-LD contexts. The snapshot is
+ * generated at build time, see {@link #main(String[])}, and packaged as
+ * {@link #RESOURCE}. Strings are stored once in a table, so decoding does not
+ * tokenize nor unescape JSON text.
+ */
+final class ContextBundle {
+
+    static final String RESOURCE = "contexts.bin";
+
+    static final int MAGIC = 0x4c44_4342; // LDCB
+    static final int VERSION = 1;
+
+    static final int NULL = 0;
+    static final int TRUE = 1;
+    static final int FALSE = 2;
+    static final int STRING = 3;
+    static final int NUMBER = 4;
+    static final int ARRAY = 5;
+    static final int OBJECT = 6;
+
+    /**
+     * Well-known contexts and their classpath locations.
+     */
+    static final Map<String, String> SOURCES = sources();
+
+    private ContextBundle() {
+        /* protected */
+    }
+
+    static Map<String, String> sources() {
+        final Map<String, String> sources = new LinkedHashMap<>();
+        sources.put(Ed25519Signature2020.CONTEXT, "/com/apicatalog/ld/signature/ed25519/security-suites-ed25519-2020-v1.jsonld");
+        sources.put("https://www.w3.org/2018/credentials/v1", "/com/apicatalog/vc/2018-credentials-v1.jsonld");
+        sources.put("https://www.w3.org/ns/credentials/v2", "/com/apicatalog/vc/2023-credentials-v2.jsonld");
+        sources.put("https://www.w3.org/ns/did/v1", "/com/apicatalog/vc/did-v1.jsonld");
+        sources.put("https://w3id.org/security/multikey/v1", "/com/apicatalog/vc/multikey-v1.jsonld");
+        sources.put("https://w3id.org/security/data-integrity/v1", "/com/apicatalog/vc/data-integrity-v1.jsonld");
+        sources.put("https://w3id.org/security/data-integrity/v2", "/com/apicatalog/vc/data-integrity-v2.jsonld");
+        return Collections.unmodifiableMap(sources);
+    }
+
+    /**
+     * Loads all contexts from the packaged snapshot.
+     *
+     * @return a map of context URLs to documents
+     * @throws IllegalStateException if a context cannot be loaded
+     */
+    static Map<String, Document> load() {
+        return load(SOURCES.keySet());
+    }
+
+    /**
+     * Loads the given contexts from the packaged snapshot, other contexts are
+     * skipped without being decoded. Falls back to parsing JSON sources if the
+     * snapshot is not present, e.g. when running from an IDE.
+     *
+     * @param urls context URLs to load
+     * @return a map of context URLs to documents
+     * @throws IllegalStateException if a context cannot be loaded
+     */
+    static Map<String, Document> load(final Collection<String> urls) {
+        try (final InputStream is = ContextBundle.class.getResourceAsStream(RESOURCE)) {
+
+            final Map<String, JsonStructure> contexts = is != null
+                    ? read(new DataInputStream(new BufferedInputStream(is)), urls)
+                    : parse(urls);
+
+            final Map<String, Document> documents = new LinkedHashMap<>(contexts.size());
+
+            for (final Map.Entry<String, JsonStructure> context : contexts.entrySet()) {
+                documents.put(context.getKey(), JsonDocument.of(context.getValue()));
+            }
+            return Collections.unmodifiableMap(documents);
+
+        } catch (IOException | JsonLdError e) {
+            throw new IllegalStateException("Cannot load bundled JSON-LD contexts.", e);
+        }
+    }
+
+    static Map<String, JsonStructure> parse() throws IOException, JsonLdError {
+        return parse(SOURCES.keySet());
+    }
+
+    static Map<String, JsonStructure> parse(final Collection<String> urls) throws IOException, JsonLdError {
+
+        final Map<String, JsonStructure> contexts = new LinkedHashMap<>();
+
+        for (final Map.Entry<String, String> source : SOURCES.entrySet()) {
+            if (!urls.contains(source.getKey())) {
+                continue;
+            }
+            try (final InputStream is = ContextBundle.class.getResourceAsStream(source.getValue())) {
+                if (is == null) {
+                    throw new IOException("Context " + source.getKey() + " not found at " + source.getValue() + ".");
+                }
+                contexts.put(source.getKey(), JsonDocument.of(is).getJsonContent()
+                        .orElseThrow(() -> new IOException("Context " + source.getKey() + " is empty.")));
+            }
+        }
+        return contexts;
+    }
+
+    static void write(final Map<String, JsonStructure> contexts, final OutputStream os) throws IOException {
+
+        final Map<String, Integer> strings = new LinkedHashMap<>();
+
+        for (final Map.Entry<String, JsonStructure> context : contexts.entrySet()) {
+            index(strings, context.getKey());
+            collect(strings, context.getValue());
+        }
+
+        final DataOutputStream out = new DataOutputStream(os);
+
+        out.writeInt(MAGIC);
+        out.writeByte(VERSION);
+
+        out.writeInt(strings.size());
+        for (final String string : strings.keySet()) {
+            out.writeUTF(string);
+        }
+
+        out.writeInt(contexts.size());
+        for (final Map.Entry<String, JsonStructure> context : contexts.entrySet()) {
+            out.writeInt(strings.get(context.getKey()));
+            write(strings, context.getValue(), out);
+        }
+        out.flush();
+    }
+
+    static Map<String, JsonStructure> read(final InputStream is) throws IOException {
+        return read(new DataInputStream(new BufferedInputStream(is)));
+    }
+
+    static Map<String, JsonStructure> read(final DataInputStream in) throws IOException {
+        return read(in, null);
+    }
+
+    // reads the given contexts, all if null
+    static Map<String, JsonStructure> read(final DataInputStream in, final Collection<String> urls) throws IOException {
+
+        if (in.readInt() != MAGIC || in.readUnsignedByte() != VERSION) {
+            throw new IOException("Unsupported JSON-LD context bundle format.");
+        }
+
+        final JsonProvider provider = JsonProvider.provider();
+
+        final String[] strings = new String[in.readInt()];
+
+        for (int i = 0; i < strings.length; i++) {
+            strings[i] = in.readUTF();
+        }
+
+        // created on the first use
+        final JsonString[] values = new JsonString[strings.length];
+
+        final int count = in.readInt();
+
+        final Map<String, JsonStructure> contexts = new LinkedHashMap<>(count);
+
+        for (int i = 0; i < count; i++) {
+            final String url = strings[in.readInt()];
+            if (urls == null || urls.contains(url)) {
+                contexts.put(url, (JsonStructure) read(provider, strings, values, in));
+
+            } else {
+                skip(in);
+            }
+        }
+        return contexts;
+    }
+
+    static void index(final Map<String, Integer> strings, final String string) {
+        strings.putIfAbsent(string, strings.size());
+    }
+
+    static void collect(final Map<String, Integer> strings, final JsonValue value) {
+        switch (value.getValueType()) {
+        case OBJECT:
+            for (final Map.Entry<String, JsonValue> entry : value.asJsonObject().entrySet()) {
+                index(strings, entry.getKey());
+                collect(strings, entry.getValue());
+            }
+            break;
+
+        case ARRAY:
+            for (final JsonValue item : value.asJsonArray()) {
+                collect(strings, item);
+            }
+            break;
+
+        case STRING:
+            index(strings, ((JsonString) value).getString());
+            break;
+
+        default:
+            break;
+        }
+    }
+
+    static void write(final Map<String, Integer> strings, final JsonValue value, final DataOutputStream out) throws IOException {
+        switch (value.getValueType()) {
+        case OBJECT:
+            final JsonObject object = value.asJsonObject();
+            out.writeByte(OBJECT);
+            out.writeInt(object.size());
+            for (final Map.Entry<String, JsonValue> entry : object.entrySet()) {
+                out.writeInt(strings.get(entry.getKey()));
+                write(strings, entry.getValue(), out);
+            }
+            break;
+
+        case ARRAY:
+            final JsonArray array = value.asJsonArray();
+            out.writeByte(ARRAY);
+            out.writeInt(array.size());
+            for (final JsonValue item : array) {
+                write(strings, item, out);
+            }
+            break;
+
+        case STRING:
+            out.writeByte(STRING);
+            out.writeInt(strings.get(((JsonString) value).getString()));
+            break;
+
+        case NUMBER:
+            out.writeByte(NUMBER);
+            out.writeUTF(((JsonNumber) value).bigDecimalValue().toString());
+            break;
+
+        case TRUE:
+            out.writeByte(TRUE);
+            break;
+
+        case FALSE:
+            out.writeByte(FALSE);
+            break;
+
+        case NULL:
+            out.writeByte(NULL);
+            break;
+        }
+    }
+
+    static JsonValue read(final JsonProvider provider, final String[] strings, final JsonString[] values, final DataInputStream in) throws IOException {
+
+        final int type = in.readUnsignedByte();
+
+        switch (type) {
+        case OBJECT:
+            final int size = in.readInt();
+            final JsonObjectBuilder object = provider.createObjectBuilder();
+            for (int i = 0; i < size; i++) {
+                final String key = strings[in.readInt()];
+                object.add(key, read(provider, strings, values, in));
+            }
+            return object.build();
+
+        case ARRAY:
+            final int length = in.readInt();
+            final JsonArrayBuilder array = provider.createArrayBuilder();
+            for (int i = 0; i < length; i++) {
+                array.add(read(provider, strings, values, in));
+            }
+            return array.build();
+
+        case STRING:
+            final int index = in.readInt();
+            if (values[index] == null) {
+                values[index] = provider.createValue(strings[index]);
+            }
+            return values[index];
+
+        case NUMBER:
+            return provider.createValue(new BigDecimal(in.readUTF()));
+
+        case TRUE:
+            return JsonValue.TRUE;
+
+        case FALSE:
+            return JsonValue.FALSE;
+
+        case NULL:
+            return JsonValue.NULL;
+
+        default:
+            throw new IOException("Unknown value type " + type + ".");
+        }
+    }
+
+    static void skip(final DataInputStream in) throws IOException {
+
+        final int type = in.readUnsignedByte();
+
+        switch (type) {
+        case OBJECT:
+            final int size = in.readInt();
+            for (int i = 0; i < size; i++) {
+                in.readInt();
+                skip(in);
+            }
+            break;
+
+        case ARRAY:
+            final int length = in.readInt();
+            for (int i = 0; i < length; i++) {
+                skip(in);
+            }
+            break;
+
+        case STRING:
+            in.readInt();
+            break;
+
+        case NUMBER:
+            in.readUTF();
+            break;
+
+        case TRUE:
+        case FALSE:
+        case NULL:
+            break;
+
+        default:
+            throw new IOException("Unknown value type " + type + ".");
+        }
+    }
+
+    /**
+     * Generates the snapshot of {@link #SOURCES}. Invoked by the build.
+     *
+     * @param args a target classes directory
+     * @throws Exception if the snapshot cannot be written
+     */
+    public static void main(String[] args) throws Exception {
+
+        if (args.length != 1) {
+            throw new IllegalArgumentException("Usage: ContextBundle <classes directory>");
+        }
+
+        final Path target = Path.of(args[0], ContextBundle.class.getPackageName().replace('.', '/'), RESOURCE);
+
+        Files.createDirectories(target.getParent());
+
+        try (final OutputStream os = new BufferedOutputStream(Files.newOutputStream(target))) {
+            write(parse(), os);
+        }
+    }
+}
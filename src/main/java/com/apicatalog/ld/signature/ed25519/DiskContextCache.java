@@ -0,0 +1,447 @@
+package com.apicatalog.ld.signature.ed25519;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import com.apicatalog.jsonld.document.Document;
+import com.apicatalog.jsonld.document.JsonDocument;
+
+import jakarta.json.JsonStructure;
+
+/**
+ * A persistent cache of JSON-LD contexts. Entries are stored in a directory
+ * as content-addressed files, named by SHA-256 of their content, in the
+ * compact binary format of bundled contexts. An index file maps context URLs
+ * to entries. Entries are read through memory-mapped files. An entry expires
+ * after the given time-to-live. When the total size of entries exceeds the
+ * limit the least recently used entries are evicted.
+ * <p>
+ * {@link Ed25519ContextLoader} stores only contexts, other documents, e.g.
+ * verification methods, are never persisted.
+ * </p>
+ * <p>
+ * The cache is safe to use from multiple threads of a single process. Recency
+ * of reads is persisted with the next write.
+ * </p>
+ */
+public final class DiskContextCache {
+
+    static final String INDEX = "index";
+    static final String SUFFIX = ".bin";
+
+    public static final Duration DEFAULT_TTL = Duration.ofDays(1);
+
+    static final class Entry {
+
+        final String hash;
+        final long size;
+        final String documentUrl;
+        // epoch milliseconds
+        final long expires;
+
+        Entry(String hash, long size, String documentUrl, long expires) {
+            this.hash = hash;
+            this.size = size;
+            this.documentUrl = documentUrl;
+            this.expires = expires;
+        }
+    }
+
+    protected final Path directory;
+    protected final long maxBytes;
+    protected final Duration ttl;
+
+    // URL to entry in access order
+    protected final LinkedHashMap<String, Entry> index;
+
+    protected long bytes;
+
+    /**
+     * Opens or creates a cache in the given directory, entries expire after
+     * {@link #DEFAULT_TTL}.
+     *
+     * @param directory a cache directory, created if it does not exist
+     * @param maxBytes  a maximal total size of entries in bytes
+     * @throws IOException if the directory or the index cannot be read
+     */
+    public DiskContextCache(final Path directory, final long maxBytes) throws IOException {
+        this(directory, maxBytes, DEFAULT_TTL);
+    }
+
+    /**
+     * Opens or creates a cache in the given directory.
+     *
+     * @param directory a cache directory, created if it does not exist
+     * @param maxBytes  a maximal total size of entries in bytes
+     * @param ttl       a time-to-live of an entry
+     * @throws IOException if the directory or the index cannot be read
+     */
+    public DiskContextCache(final Path directory, final long maxBytes, final Duration ttl) throws IOException {
+        if (maxBytes <= 0) {
+            throw new IllegalArgumentException("The maximal size must be greater than zero but was " + maxBytes + ".");
+        }
+        if (ttl == null || ttl.isNegative() || ttl.isZero()) {
+            throw new IllegalArgumentException("The time-to-live must be positive but was " + ttl + ".");
+        }
+        this.directory = Files.createDirectories(directory);
+        this.maxBytes = maxBytes;
+        this.ttl = ttl;
+        this.index = new LinkedHashMap<>(16, 0.75f, true);
+        this.bytes = 0;
+        readIndex();
+    }
+
+    /**
+     * Returns a cached context or <code>null</code> if the context is not
+     * cached or has expired.
+     *
+     * @param url a context URL
+     * @return a document or <code>null</code>
+     */
+    public Document get(final String url) {
+
+        final Entry entry;
+
+        synchronized (this) {
+            entry = index.get(url);
+        }
+
+        if (entry == null) {
+            return null;
+        }
+
+        if (entry.expires <= System.currentTimeMillis()) {
+            remove(url, entry);
+            return null;
+        }
+
+        try (final FileChannel channel = FileChannel.open(directory.resolve(entry.hash + SUFFIX), StandardOpenOption.READ)) {
+
+            final MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+
+            final JsonStructure content = ContextBundle.read(new DataInputStream(new ByteBufferInputStream(buffer))).get("");
+
+            if (content == null) {
+                throw new IOException("Corrupted cache entry " + entry.hash + ".");
+            }
+
+            final Document document = JsonDocument.of(content);
+
+            if (entry.documentUrl != null) {
+                document.setDocumentUrl(URI.create(entry.documentUrl));
+            }
+            return document;
+
+        } catch (IOException | RuntimeException e) {
+            remove(url, entry);
+            return null;
+        }
+    }
+
+    /**
+     * Stores the given context. Documents without JSON content are ignored.
+     *
+     * @param url      a context URL
+     * @param document a document
+     * @throws IOException if the document cannot be written
+     */
+    public void put(final String url, final Document document) throws IOException {
+
+        final JsonStructure content = document.getJsonContent().orElse(null);
+
+        if (content == null) {
+            return;
+        }
+
+        final ByteArrayOutputStream os = new ByteArrayOutputStream();
+        ContextBundle.write(Collections.singletonMap("", content), os);
+
+        final byte[] data = os.toByteArray();
+
+        final String hash = hex(sha256(data));
+
+        final Path file = directory.resolve(hash + SUFFIX);
+
+        // written under the lock, release() cannot delete the file before it is indexed
+        synchronized (this) {
+
+            if (!Files.exists(file)) {
+                final Path tmp = Files.createTempFile(directory, hash, ".tmp");
+                try {
+                    Files.write(tmp, data);
+                    Files.move(tmp, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+
+                } finally {
+                    Files.deleteIfExists(tmp);
+                }
+            }
+
+            final Entry previous = index.put(url, new Entry(
+                    hash,
+                    data.length,
+                    document.getDocumentUrl() != null ? document.getDocumentUrl().toString() : null,
+                    System.currentTimeMillis() + ttl.toMillis()));
+
+            if (previous != null) {
+                bytes -= previous.size;
+                release(previous.hash);
+            }
+
+            bytes += data.length;
+
+            evict();
+            writeIndex();
+        }
+    }
+
+    /**
+     * Returns a number of cached documents.
+     *
+     * @return a number of documents
+     */
+    public synchronized int size() {
+        return index.size();
+    }
+
+    /**
+     * Returns a total size of cached documents.
+     *
+     * @return a size in bytes
+     */
+    public synchronized long bytes() {
+        return bytes;
+    }
+
+    public long maxBytes() {
+        return maxBytes;
+    }
+
+    public Path directory() {
+        return directory;
+    }
+
+    public Duration ttl() {
+        return ttl;
+    }
+
+    protected synchronized void remove(final String url, final Entry entry) {
+        if (index.remove(url, entry)) {
+            bytes -= entry.size;
+            release(entry.hash);
+            try {
+                writeIndex();
+            } catch (IOException e) {
+                /* ignore */
+            }
+        }
+    }
+
+    // must be called while holding the lock
+    protected void evict() {
+
+        final Iterator<Entry> it = index.values().iterator();
+
+        // the last (recent) entry is always kept
+        while (bytes > maxBytes && index.size() > 1 && it.hasNext()) {
+            final Entry entry = it.next();
+            it.remove();
+            bytes -= entry.size;
+            release(entry.hash);
+        }
+    }
+
+    // deletes a file if not referenced by any entry, must be called while holding the lock
+    protected void release(final String hash) {
+        for (final Entry entry : index.values()) {
+            if (entry.hash.equals(hash)) {
+                return;
+            }
+        }
+        try {
+            Files.deleteIfExists(directory.resolve(hash + SUFFIX));
+        } catch (IOException e) {
+            /* ignore */
+        }
+    }
+
+    protected void readIndex() throws IOException {
+
+        final Map<String, Boolean> exists = new HashMap<>();
+
+        final long now = System.currentTimeMillis();
+
+        try (final BufferedReader reader = Files.newBufferedReader(directory.resolve(INDEX), StandardCharsets.UTF_8)) {
+
+            String line;
+
+            while ((line = reader.readLine()) != null) {
+
+                final String[] fields = line.split("\t", -1);
+
+                if (fields.length != 5) {
+                    continue;
+                }
+
+                final String hash = fields[0];
+
+                // skip expired entries and entries whose files are missing
+                if (Long.parseLong(fields[2]) <= now
+                        || !exists.computeIfAbsent(hash, h -> Files.isRegularFile(directory.resolve(h + SUFFIX)))) {
+                    continue;
+                }
+
+                final Entry entry = new Entry(
+                        hash,
+                        Long.parseLong(fields[1]),
+                        fields[4].isEmpty() ? null : unescape(fields[4]),
+                        Long.parseLong(fields[2]));
+
+                final Entry previous = index.put(unescape(fields[3]), entry);
+
+                if (previous != null) {
+                    bytes -= previous.size;
+                }
+                bytes += entry.size;
+            }
+
+        } catch (NoSuchFileException e) {
+            return;
+
+        } catch (IllegalArgumentException e) {
+            throw new IOException("Corrupted cache index in " + directory + ".", e);
+        }
+
+        evict();
+    }
+
+    // must be called while holding the lock, entries are written in access order,
+    // one per line as hash, size, expiration, escaped URL, escaped document URL
+    protected void writeIndex() throws IOException {
+
+        final Path tmp = Files.createTempFile(directory, INDEX, ".tmp");
+
+        try (final BufferedWriter writer = Files.newBufferedWriter(tmp, StandardCharsets.UTF_8)) {
+            for (final Map.Entry<String, Entry> entry : index.entrySet()) {
+                writer.write(entry.getValue().hash);
+                writer.write('\t');
+                writer.write(Long.toString(entry.getValue().size));
+                writer.write('\t');
+                writer.write(Long.toString(entry.getValue().expires));
+                writer.write('\t');
+                writer.write(escape(entry.getKey()));
+                writer.write('\t');
+                if (entry.getValue().documentUrl != null) {
+                    writer.write(escape(entry.getValue().documentUrl));
+                }
+                writer.newLine();
+            }
+        }
+
+        Files.move(tmp, directory.resolve(INDEX), StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    // percent-encodes field and line delimiters
+    static String escape(final String value) {
+        final StringBuilder escaped = new StringBuilder(value.length());
+        for (int i = 0; i < value.length(); i++) {
+            final char ch = value.charAt(i);
+            if (ch == '%' || ch == '\t' || ch == '\n' || ch == '\r') {
+                escaped.append('%')
+                        .append(Character.toUpperCase(Character.forDigit(ch >> 4, 16)))
+                        .append(Character.toUpperCase(Character.forDigit(ch & 0xF, 16)));
+                continue;
+            }
+            escaped.append(ch);
+        }
+        return escaped.toString();
+    }
+
+    static String unescape(final String value) {
+        if (value.indexOf('%') == -1) {
+            return value;
+        }
+        final StringBuilder unescaped = new StringBuilder(value.length());
+        for (int i = 0; i < value.length(); i++) {
+            final char ch = value.charAt(i);
+            if (ch == '%') {
+                if (i + 2 >= value.length()) {
+                    throw new IllegalArgumentException("Invalid escape sequence in [" + value + "].");
+                }
+                unescaped.append((char) Integer.parseInt(value.substring(i + 1, i + 3), 16));
+                i += 2;
+                continue;
+            }
+            unescaped.append(ch);
+        }
+        return unescaped.toString();
+    }
+
+    static byte[] sha256(final byte[] data) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(data);
+
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    static String hex(final byte[] data) {
+        final StringBuilder hex = new StringBuilder(data.length * 2);
+        for (final byte b : data) {
+            hex.append(Character.forDigit((b >> 4) & 0xF, 16));
+            hex.append(Character.forDigit(b & 0xF, 16));
+        }
+        return hex.toString();
+    }
+
+    static final class ByteBufferInputStream extends InputStream {
+
+        final ByteBuffer buffer;
+
+        ByteBufferInputStream(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        public int read() {
+            return buffer.hasRemaining() ? buffer.get() & 0xFF : -1;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) {
+            if (!buffer.hasRemaining()) {
+                return -1;
+            }
+            final int n = Math.min(len, buffer.remaining());
+            buffer.get(b, off, n);
+            return n;
+        }
+
+        @Override
+        public int available() {
+            return buffer.remaining();
+        }
+    }
+}
@@ -0,0 +1,173 @@
+package com.apicatalog.ld.signature.ed25519;
+
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.List;
+
+import com.apicatalog.ld.signature.VerificationError;
+import com.apicatalog.ld.signature.algorithm.SignatureAlgorithm;
+
+/**
+ * Randomized batch verification. Checks
+ * <code>8 * ((sum z_i * S_i) * B - sum z_i * R_i - sum (z_i * k_i) * A_i) = 0</code>,
+ * where <code>z_i</code> are random 128-bit scalars and
+ * <code>k_i = SHA-512(R_i || A_i || M_i)</code>, using one multi-scalar
+ * multiplication.
+ * <p>
+ * A batch succeeds only if all signatures are valid, with an overwhelming
+ * probability. The check is cofactored, as single verification by
+ * {@link JavaSignatureProvider} and a cofactored
+ * {@link Ed25519Signature2020Provider}, so with those a signature is accepted
+ * or rejected regardless of being verified alone or in a batch. A failed batch
+ * must be followed by individual verification to find invalid signatures.
+ * </p>
+ */
+final class Ed25519BatchVerifier {
+
+    static final int WINDOW = 5;
+
+    /**
+     * A maximal number of signatures verified at once.
+     */
+    static final int BATCH_SIZE = 64;
+
+    final SecureRandom random;
+
+    Ed25519BatchVerifier(SecureRandom random) {
+        this.random = random;
+    }
+
+    /**
+     * Verifies the given entries in batches of {@link #BATCH_SIZE}. If a batch
+     * fails then its entries are verified individually by the given algorithm to
+     * find invalid signatures.
+     *
+     * @param entries signatures to verify
+     * @param single  an algorithm used to verify a single signature
+     * @return verification results in the same order as the given entries
+     */
+    boolean[] verify(final List<BatchEntry> entries, final SignatureAlgorithm single) {
+
+        final boolean[] result = new boolean[entries.size()];
+
+        for (int offset = 0; offset < entries.size(); offset += BATCH_SIZE) {
+
+            final List<BatchEntry> chunk = entries.subList(offset, Math.min(offset + BATCH_SIZE, entries.size()));
+
+            if (chunk.size() > 1 && verify(chunk)) {
+                for (int i = 0; i < chunk.size(); i++) {
+                    result[offset + i] = true;
+                }
+                continue;
+            }
+
+            for (int i = 0; i < chunk.size(); i++) {
+                result[offset + i] = verify(chunk.get(i), single);
+            }
+        }
+        return result;
+    }
+
+    static boolean verify(final BatchEntry entry, final SignatureAlgorithm single) {
+
+        if (entry.publicKey() == null || entry.publicKey().length != 32
+                || entry.signature() == null || entry.data() == null) {
+            return false;
+        }
+
+        try {
+            single.verify(entry.publicKey(), entry.signature(), entry.data());
+            return true;
+
+        } catch (VerificationError e) {
+            return false;
+        }
+    }
+
+    /**
+     * Verifies the given entries at once.
+     *
+     * @param entries signatures to verify
+     * @return <code>true</code> if all the signatures are valid,
+     *         <code>false</code> if at least one signature is invalid
+     */
+    boolean verify(final List<BatchEntry> entries) {
+
+        final int n = entries.size();
+
+        final byte[][] scalars = new byte[2 * n + 1][];
+        final Ed25519Point[] points = new Ed25519Point[2 * n + 1];
+
+        final MessageDigest sha512 = JavaSignatureProvider.sha512();
+
+        byte[] sum = new byte[32];
+
+        for (int i = 0; i < n; i++) {
+
+            final BatchEntry entry = entries.get(i);
+
+            final byte[] publicKey = entry.publicKey();
+            final byte[] signature = entry.signature();
+
+            if (publicKey == null || publicKey.length != 32
+                    || signature == null || signature.length != 64
+                    || entry.data() == null
+                    || !Ed25519Scalar.isCanonical(signature, 32)) {
+                return false;
+            }
+
+            final Ed25519Point a = Ed25519Point.decode(publicKey, 0);
+            final Ed25519Point r = Ed25519Point.decode(signature, 0);
+
+            if (a == null || r == null) {
+                return false;
+            }
+
+            sha512.update(signature, 0, 32);
+            sha512.update(publicKey);
+            sha512.update(entry.data());
+
+            final byte[] k = Ed25519Scalar.reduce(sha512.digest(), 0);
+
+            final byte[] z = new byte[32];
+            random.nextBytes(z);
+            // 128-bit random scalar
+            for (int j = 16; j < 32; j++) {
+                z[j] = 0;
+            }
+
+            final byte[] s = new byte[32];
+            System.arraycopy(signature, 32, s, 0, 32);
+
+            sum = Ed25519Scalar.mulAdd(z, s, sum);
+
+            scalars[2 * i + 1] = z;
+            points[2 * i + 1] = r.negate();
+
+            scalars[2 * i + 2] = Ed25519Scalar.mul(z, k);
+            points[2 * i + 2] = a.negate();
+        }
+
+        final long[][] ws = Ed25519Point.workspace();
+
+        final byte[][] nafs = new byte[2 * n + 1][];
+        final Ed25519Point.Cached[][] tables = new Ed25519Point.Cached[2 * n + 1][];
+
+        nafs[0] = Ed25519Scalar.naf(sum, Ed25519FixedBase.WINDOW);
+        tables[0] = Ed25519FixedBase.ODD_MULTIPLES;
+
+        for (int i = 1; i < nafs.length; i++) {
+            nafs[i] = Ed25519Scalar.naf(scalars[i], WINDOW);
+            tables[i] = Ed25519Point.oddMultiples(points[i], WINDOW, ws);
+        }
+
+        final Ed25519Point result = Ed25519Point.multiply(nafs, tables, ws);
+
+        // clear the cofactor
+        Ed25519Point.dbl(result, result, ws);
+        Ed25519Point.dbl(result, result, ws);
+        Ed25519Point.dbl(result, result, ws);
+
+        return result.isIdentity();
+    }
+}
@@ -1,58 +1,648 @@
 package com.apicatalog.ld.signature.ed25519;
 
 import java.io.IOException;
-import java.io.InputStream;
 import java.net.URI;
+import java.time.Duration;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
 
 import com.apicatalog.jsonld.JsonLdError;
+import com.apicatalog.jsonld.JsonLdErrorCode;
 import com.apicatalog.jsonld.document.Document;
-import com.apicatalog.jsonld.document.JsonDocument;
+import com.apicatalog.jsonld.http.ProfileConstants;
+import com.apicatalog.jsonld.lang.Keywords;
 import com.apicatalog.jsonld.loader.DocumentLoader;
 import com.apicatalog.jsonld.loader.DocumentLoaderOptions;
 import com.apicatalog.jsonld.loader.SchemeRouter;
 
+import jakarta.json.JsonObject;
+import jakarta.json.JsonString;
+import jakarta.json.JsonValue;
+import jakarta.json.JsonValue.ValueType;
+
+/**
+ * A document loader serving the suite context from a static copy. Other
+ * well-known contexts can be preloaded from a binary snapshot bundled in the
+ * jar, see {@link #bundled(DocumentLoader)}. Remaining contexts, i.e. documents
+ * requested with the JSON-LD context profile, are loaded by the given loader
+ * and cached, see {@link #cache(int, Duration)} and
+ * {@link #failureTtl(Duration)}, and optionally persisted, see
+ * {@link #diskCache(DiskContextCache)}. Concurrent requests for the same
+ * context are loaded once.
+ * <p>
+ * Other documents, e.g. verification methods or DID documents, are never
+ * cached, a rotated or revoked key is seen by the next request.
+ * </p>
+ * <p>
+ * The loader is thread-safe. Configure it before it is shared, a change made
+ * while documents are being loaded is visible to subsequent loads only.
+ * </p>
+ */
 public class Ed25519ContextLoader implements DocumentLoader {
 
+    public static final int DEFAULT_CACHE_CAPACITY = 256;
+
+    public static final Duration DEFAULT_CACHE_TTL = Duration.ofHours(1);
+
+    public static final Duration DEFAULT_FAILURE_TTL = Duration.ofMinutes(1);
+
     protected static final Map<String, Document> staticCache = defaultValues();
 
     protected final DocumentLoader defaultLoader;
 
+    protected final Map<String, Document> contexts;
+
+    // configuration, read once per load
+    protected volatile BoundedCache<String, Document> documents;
+    protected volatile BoundedCache<String, JsonLdError> failures;
+
+    protected volatile Duration failureTtl;
+
+    protected volatile DiskContextCache disk;
+
+    // loads in progress
+    protected final Map<String, CompletableFuture<Document>> loading;
+
+    protected volatile MetricsListener metrics;
+
     public Ed25519ContextLoader() {
-        this.defaultLoader = SchemeRouter.defaultInstance();
+        this(SchemeRouter.defaultInstance());
     }
     
     public Ed25519ContextLoader(final DocumentLoader defaultLoader) {
+        this(defaultLoader, staticCache);
+    }
+
+    /**
+     * Creates a new loader serving the given well-known contexts from the
+     * bundled snapshot. The suite context is always served.
+     *
+     * @param defaultLoader a loader used to load other documents
+     * @param contexts      context URLs to preload, see {@link #bundledContexts()}
+     * @throws IllegalArgumentException if a context is not bundled
+     */
+    public Ed25519ContextLoader(final DocumentLoader defaultLoader, final Collection<String> contexts) {
+        this(defaultLoader, select(contexts));
+    }
+
+    protected Ed25519ContextLoader(final DocumentLoader defaultLoader, final Map<String, Document> contexts) {
         this.defaultLoader = defaultLoader;
+        this.contexts = contexts;
+        this.loading = new ConcurrentHashMap<>();
+        this.metrics = MetricsListener.NOOP;
+        cache(DEFAULT_CACHE_CAPACITY, DEFAULT_CACHE_TTL);
+        failureTtl(DEFAULT_FAILURE_TTL);
+    }
+
+    /**
+     * Creates a new loader serving all bundled contexts, i.e. the credentials,
+     * DID, multikey, data integrity and the suite contexts, without parsing.
+     * When used with a verifier or an issuer disable their own bundled contexts
+     * to let the requests reach this loader.
+     *
+     * @param defaultLoader a loader used to load other documents
+     * @return a new loader instance
+     */
+    public static Ed25519ContextLoader bundled(final DocumentLoader defaultLoader) {
+        return new Ed25519ContextLoader(defaultLoader, Bundle.CONTEXTS);
+    }
+
+    /**
+     * Returns URLs of contexts available in the bundled snapshot.
+     *
+     * @return context URLs
+     */
+    public static Set<String> bundledContexts() {
+        return ContextBundle.SOURCES.keySet();
+    }
+
+    protected static Map<String, Document> select(final Collection<String> urls) {
+
+        for (final String url : urls) {
+            if (!ContextBundle.SOURCES.containsKey(url)) {
+                throw new IllegalArgumentException("The context " + url + " is not bundled, expected one of " + bundledContexts() + ".");
+            }
+        }
+
+        final Map<String, Document> selected = new LinkedHashMap<>(staticCache);
+
+        // only the selected contexts are decoded
+        selected.putAll(ContextBundle.load(urls));
+
+        return Collections.unmodifiableMap(selected);
+    }
+
+    /**
+     * Configures a cache of loaded contexts.
+     *
+     * @param capacity a maximal number of cached contexts
+     * @param ttl      a time-to-live of a cached document, <code>null</code> if
+     *                 documents do not expire
+     * @return the loader instance
+     */
+    public Ed25519ContextLoader cache(final int capacity, final Duration ttl) {
+        return cache(new BoundedCache<>(capacity, BoundedCache.Eviction.LRU, ttl));
+    }
+
+    /**
+     * Sets a cache of loaded contexts.
+     *
+     * @param documents a cache, <code>null</code> disables caching
+     * @return the loader instance
+     */
+    public Ed25519ContextLoader cache(final BoundedCache<String, Document> documents) {
+        this.documents = documents;
+        return this;
+    }
+
+    /**
+     * Sets how long a failed document load is remembered. A remembered failure
+     * is reported again without reaching the underlying loader.
+     *
+     * @param ttl a time-to-live of a failure, <code>null</code> disables caching
+     *            of failures
+     * @return the loader instance
+     */
+    public Ed25519ContextLoader failureTtl(final Duration ttl) {
+        this.failureTtl = ttl;
+        this.failures = ttl != null
+                ? new BoundedCache<>(DEFAULT_CACHE_CAPACITY, BoundedCache.Eviction.FIFO, ttl)
+                : null;
+        return this;
+    }
+
+    /**
+     * Sets a persistent cache consulted before the underlying loader. Loaded
+     * documents are stored in the cache, so they are available after a
+     * restart.
+     *
+     * @param disk a cache, <code>null</code> disables the persistent cache
+     * @return the loader instance
+     */
+    public Ed25519ContextLoader diskCache(final DiskContextCache disk) {
+        this.disk = disk;
+        return this;
+    }
+
+    public DiskContextCache diskCache() {
+        return disk;
+    }
+
+    public BoundedCache<String, Document> cache() {
+        return documents;
+    }
+
+    public Duration failureTtl() {
+        return failureTtl;
+    }
+
+    /**
+     * Sets a listener receiving durations of loading documents by the default
+     * loader or the disk cache, and hits and misses of the caches. Documents
+     * served from the bundled snapshot are not reported.
+     *
+     * @param metrics a listener, <code>null</code> disables instrumentation
+     * @return the loader instance
+     */
+    public Ed25519ContextLoader metrics(final MetricsListener metrics) {
+        this.metrics = metrics != null ? metrics : MetricsListener.NOOP;
+        return this;
+    }
+
+    public MetricsListener metrics() {
+        return metrics;
+    }
+
+    /**
+     * Returns a cache key of a context request, or <code>null</code> if the
+     * request is not for a context and must not be cached.
+     *
+     * @param url     a document URL
+     * @param options loader options
+     * @return a cache key or <code>null</code>
+     */
+    protected static String key(final URI url, final DocumentLoaderOptions options) {
+
+        if (options == null || !ProfileConstants.CONTEXT.equals(options.getProfile())) {
+            return null;
+        }
+
+        // a space cannot appear in a URI
+        return options.isExtractAllScripts()
+                ? url.toString() + " extractAllScripts"
+                : url.toString();
+    }
+
+    /**
+     * Returns options of a context request.
+     *
+     * @return new options
+     */
+    public static DocumentLoaderOptions contextOptions() {
+        final DocumentLoaderOptions options = new DocumentLoaderOptions();
+        options.setProfile(ProfileConstants.CONTEXT);
+        options.setRequestProfile(Collections.singletonList(ProfileConstants.CONTEXT));
+        return options;
     }
 
     @Override
     public Document loadDocument(final URI url, final DocumentLoaderOptions options) throws JsonLdError {
-        if (staticCache.containsKey(url.toString())) {
-            final Document document = staticCache.get(url.toString());
+
+        final Ed25519Events.ContextLoad event = new Ed25519Events.ContextLoad();
+
+        if (!event.isEnabled()) {
+            return loadDocument(key(url, options), url, options, null);
+        }
+
+        event.begin();
+        event.url = url.toString();
+        try {
+            final Document document = loadDocument(key(url, options), url, options, event);
+            event.outcome = Ed25519Events.OK;
+            return document;
+
+        } catch (JsonLdError | RuntimeException e) {
+            event.outcome = e instanceof JsonLdError error && error.getCode() != null
+                    ? error.getCode().name()
+                    : Ed25519Events.outcome(e);
+            throw e;
+
+        } finally {
+            event.commit();
+        }
+    }
+
+    Document loadDocument(final String key, final URI url, final DocumentLoaderOptions options, final Ed25519Events.ContextLoad event) throws JsonLdError {
+
+        final Document context = contexts.get(url.toString());
+
+        if (context != null) {
+            if (event != null) {
+                event.source("bundled", true);
+            }
+            return context;
+        }
+
+        final BoundedCache<String, Document> documents = this.documents;
+        final DiskContextCache disk = this.disk;
+
+        if (key == null || documents == null && disk == null) {
+            if (event != null) {
+                event.source("remote", false);
+            }
+            return fetch(url, options);
+        }
+
+        if (documents != null) {
+            final Document cached = documents.get(key);
+
+            metrics.onCache(MetricsListener.Cache.CONTEXT, cached != null);
+
+            if (cached != null) {
+                if (event != null) {
+                    event.source("memory", true);
+                }
+                return cached;
+            }
+        }
+
+        return load(key, url, options, documents, disk, event);
+    }
+
+    Document load(final String key, final URI url, final DocumentLoaderOptions options, final BoundedCache<String, Document> documents, final DiskContextCache disk, final Ed25519Events.ContextLoad event) throws JsonLdError {
+
+        final BoundedCache<String, JsonLdError> failures = this.failures;
+
+        if (failures != null) {
+            final JsonLdError failure = failures.get(key);
+            if (failure != null) {
+                if (event != null) {
+                    event.source("failure", true);
+                }
+                throw failure;
+            }
+        }
+
+        final CompletableFuture<Document> future = new CompletableFuture<>();
+
+        final CompletableFuture<Document> pending = loading.putIfAbsent(key, future);
+
+        // another thread is loading the document
+        if (pending != null) {
+            if (event != null) {
+                event.source("shared", false);
+            }
+            return await(pending);
+        }
+
+        return fetch(key, url, options, documents, disk, future, event);
+    }
+
+    /**
+     * Loads a document and completes the given future registered as loading.
+     */
+    Document fetch(final String key, final URI url, final DocumentLoaderOptions options, final BoundedCache<String, Document> documents, final DiskContextCache disk, final CompletableFuture<Document> future, final Ed25519Events.ContextLoad event) throws JsonLdError {
+
+        final BoundedCache<String, JsonLdError> failures = this.failures;
+
+        try {
+            Document document = disk != null ? read(key, disk) : null;
+
             if (document != null) {
-                return document;
+                if (event != null) {
+                    event.source("disk", true);
+                }
+
+            } else {
+                if (event != null) {
+                    event.source("remote", false);
+                }
+                document = fetch(url, options);
+                store(key, document, disk);
             }
+
+            if (document != null && documents != null) {
+                documents.put(key, document);
+            }
+            future.complete(document);
+            return document;
+
+        } catch (JsonLdError e) {
+            if (failures != null) {
+                failures.put(key, e);
+            }
+            future.completeExceptionally(e);
+            throw e;
+
+        } catch (RuntimeException e) {
+            future.completeExceptionally(e);
+            throw e;
+
+        } finally {
+            loading.remove(key, future);
+        }
+    }
+
+    /**
+     * Loads a document by the default loader.
+     */
+    protected Document fetch(final URI url, final DocumentLoaderOptions options) throws JsonLdError {
+
+        final MetricsListener metrics = this.metrics;
+
+        if (metrics == MetricsListener.NOOP) {
+            return defaultLoader.loadDocument(url, options);
+        }
+
+        final long start = System.nanoTime();
+        try {
+            return defaultLoader.loadDocument(url, options);
+
+        } finally {
+            metrics.onStage(MetricsListener.Stage.CONTEXT_LOADING, System.nanoTime() - start, 0);
+        }
+    }
+
+    /**
+     * Reads a persisted document.
+     */
+    protected Document read(final String key, final DiskContextCache disk) {
+
+        final MetricsListener metrics = this.metrics;
+
+        final long start = System.nanoTime();
+
+        final Document document = disk.get(key);
+
+        metrics.onCache(MetricsListener.Cache.DISK, document != null);
+
+        if (document != null) {
+            metrics.onStage(MetricsListener.Stage.CONTEXT_LOADING, System.nanoTime() - start, 0);
+        }
+
+        return document;
+    }
+
+    /**
+     * Loads a document on the given executor. A cached document is returned as
+     * a completed future, a caller does not wait for a document being loaded by
+     * another caller, it gets the same future.
+     *
+     * @param url      a document URL
+     * @param options  loader options, only context requests are cached
+     * @param executor an executor running a load if needed
+     * @return a future document, completed exceptionally if the executor
+     *         rejects the load
+     */
+    public CompletableFuture<Document> loadDocumentAsync(final URI url, final DocumentLoaderOptions options, final Executor executor) {
+
+        final Document context = contexts.get(url.toString());
+
+        if (context != null) {
+            return CompletableFuture.completedFuture(context);
+        }
+
+        final String key = key(url, options);
+
+        final BoundedCache<String, Document> documents = key != null ? this.documents : null;
+        final DiskContextCache disk = key != null ? this.disk : null;
+
+        if (documents != null) {
+            final Document cached = documents.get(key);
+
+            metrics.onCache(MetricsListener.Cache.CONTEXT, cached != null);
+
+            if (cached != null) {
+                return CompletableFuture.completedFuture(cached);
+            }
+        }
+
+        final BoundedCache<String, JsonLdError> failures = key != null ? this.failures : null;
+
+        if (failures != null) {
+            final JsonLdError failure = failures.get(key);
+            if (failure != null) {
+                return CompletableFuture.failedFuture(failure);
+            }
+        }
+
+        final CompletableFuture<Document> future = new CompletableFuture<>();
+
+        if (documents == null && disk == null) {
+            try {
+                executor.execute(() -> {
+                    try {
+                        future.complete(fetch(url, options));
+
+                    } catch (Throwable e) {
+                        future.completeExceptionally(e);
+                    }
+                });
+
+            } catch (RuntimeException e) {
+                // e.g. a rejected task
+                future.completeExceptionally(e);
+            }
+            return future;
+        }
+
+        final CompletableFuture<Document> pending = loading.putIfAbsent(key, future);
+
+        if (pending != null) {
+            return pending;
+        }
+
+        try {
+            executor.execute(() -> {
+                try {
+                    fetch(key, url, options, documents, disk, future, null);
+
+                } catch (JsonLdError | RuntimeException e) {
+                    /* the future is completed exceptionally */
+                }
+            });
+
+        } catch (RuntimeException e) {
+            // e.g. a rejected task, the next request loads the document again
+            loading.remove(key, future);
+            future.completeExceptionally(e);
+        }
+
+        return future;
+    }
+
+    /**
+     * Loads all remote contexts referenced by the given document, including
+     * embedded documents, on the given executor. Nested contexts, i.e. contexts
+     * referenced by loaded contexts, are not prefetched. Does nothing if both
+     * the memory and the disk caches are disabled, i.e. a loaded context would
+     * not be kept.
+     *
+     * @param document a compacted JSON-LD document
+     * @param executor an executor running loads if needed
+     * @return a future completed when all contexts are loaded
+     */
+    public CompletableFuture<Void> prefetch(final JsonObject document, final Executor executor) {
+
+        if (documents == null && disk == null) {
+            return CompletableFuture.completedFuture(null);
+        }
+
+        final Set<String> urls = new LinkedHashSet<>();
+        contexts(document, urls);
+
+        if (urls.isEmpty()) {
+            return CompletableFuture.completedFuture(null);
+        }
+
+        final DocumentLoaderOptions options = contextOptions();
+
+        return CompletableFuture.allOf(urls.stream()
+                .map(url -> loadDocumentAsync(URI.create(url), options, executor))
+                .toArray(CompletableFuture[]::new));
+    }
+
+    static void contexts(final JsonValue value, final Set<String> urls) {
+        switch (value.getValueType()) {
+        case OBJECT:
+            for (final Map.Entry<String, JsonValue> entry : value.asJsonObject().entrySet()) {
+                if (Keywords.CONTEXT.equals(entry.getKey())) {
+                    urls(entry.getValue(), urls);
+
+                } else {
+                    contexts(entry.getValue(), urls);
+                }
+            }
+            break;
+
+        case ARRAY:
+            for (final JsonValue item : value.asJsonArray()) {
+                contexts(item, urls);
+            }
+            break;
+
+        default:
+            break;
         }
+    }
+
+    static void urls(final JsonValue context, final Set<String> urls) {
+        if (context.getValueType() == ValueType.STRING) {
+            final String url = ((JsonString) context).getString();
+            if (isAbsolute(url)) {
+                urls.add(url);
+            }
+
+        } else if (context.getValueType() == ValueType.ARRAY) {
+            for (final JsonValue item : context.asJsonArray()) {
+                urls(item, urls);
+            }
+        }
+    }
+
+    static boolean isAbsolute(final String url) {
+        try {
+            return URI.create(url).isAbsolute();
 
-        return defaultLoader.loadDocument(url, options);
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    protected static void store(final String key, final Document document, final DiskContextCache disk) {
+        if (document == null || disk == null) {
+            return;
+        }
+        try {
+            disk.put(key, document);
+
+        } catch (IOException e) {
+            /* ignore, the document is loaded again next time */
+        }
+    }
+
+    protected static Document await(final CompletableFuture<Document> pending) throws JsonLdError {
+        try {
+            return pending.get();
+
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new JsonLdError(JsonLdErrorCode.LOADING_DOCUMENT_FAILED, e);
+
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof JsonLdError) {
+                throw (JsonLdError) e.getCause();
+            }
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new JsonLdError(JsonLdErrorCode.LOADING_DOCUMENT_FAILED, e.getCause());
+        }
     }
 
     public static Map<String, Document> defaultValues() {
-        Map<String, Document> staticCache = new LinkedHashMap<>();
-        staticCache.put(Ed25519Signature2020.CONTEXT, get("security-suites-ed25519-2020-v1.jsonld"));
-        return Collections.unmodifiableMap(staticCache);
+        final Document context = ContextBundle.load(Collections.singleton(Ed25519Signature2020.CONTEXT)).get(Ed25519Signature2020.CONTEXT);
+        if (context == null) {
+            throw new IllegalStateException("The context " + Ed25519Signature2020.CONTEXT + " is not bundled.");
+        }
+        return Collections.singletonMap(Ed25519Signature2020.CONTEXT, context);
     }
 
-    protected static JsonDocument get(final String name) {
-        try (final InputStream is = Ed25519ContextLoader.class.getResourceAsStream(name)) {
-            return JsonDocument.of(is);
+    // decodes the whole bundled snapshot once, on the first use of bundled(...)
+    static final class Bundle {
+
+        static final Map<String, Document> CONTEXTS = ContextBundle.load();
 
-        } catch (IOException | JsonLdError e) {
-            /* ignore */
+        private Bundle() {
+            /* protected */
         }
-        return null;
     }
 }
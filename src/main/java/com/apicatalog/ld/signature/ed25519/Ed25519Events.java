@@ -0,0 +1,133 @@
+package com.apicatalog.ld.signature.ed25519;
+
+import com.apicatalog.ld.DocumentError;
+import com.apicatalog.ld.signature.SigningError;
+import com.apicatalog.ld.signature.VerificationError;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JDK Flight Recorder events emitted by the suite. Events are disabled unless
+ * a recording enables them, e.g.
+ * <code>jcmd &lt;pid&gt; JFR.start settings=profile</code>, a disabled event is
+ * not populated nor committed.
+ */
+final class Ed25519Events {
+
+    static final String PREFIX = "com.apicatalog.ld.signature.ed25519.";
+
+    static final String OK = "OK";
+
+    private Ed25519Events() {
+        /* protected */
+    }
+
+    @Name(PREFIX + "Sign")
+    @Label("Ed25519 Sign")
+    @Category({ "Iron", "Ed25519Signature2020" })
+    @StackTrace(false)
+    static final class Sign extends Event {
+
+        @Label("Data Size")
+        @DataAmount
+        int dataSize;
+
+        @Label("Outcome")
+        String outcome;
+    }
+
+    @Name(PREFIX + "Verify")
+    @Label("Ed25519 Verify")
+    @Category({ "Iron", "Ed25519Signature2020" })
+    @StackTrace(false)
+    static final class Verify extends Event {
+
+        @Label("Data Size")
+        @DataAmount
+        int dataSize;
+
+        @Label("Outcome")
+        String outcome;
+    }
+
+    @Name(PREFIX + "ProofVerify")
+    @Label("Proof Verify")
+    @Description("Verification of an Ed25519Signature2020 proof, including canonicalization")
+    @Category({ "Iron", "Ed25519Signature2020" })
+    @StackTrace(false)
+    static final class ProofVerify extends Event {
+
+        @Label("Proof Id")
+        String proofId;
+
+        @Label("Verification Method")
+        String method;
+
+        @Label("Cached")
+        @Description("The proof has been verified before, see Ed25519Signature2020.verificationCache")
+        boolean cached;
+
+        @Label("Outcome")
+        String outcome;
+    }
+
+    @Name(PREFIX + "ProofParse")
+    @Label("Proof Parse")
+    @Category({ "Iron", "Ed25519Signature2020" })
+    @StackTrace(false)
+    static final class ProofParse extends Event {
+
+        @Label("Proof Id")
+        String proofId;
+
+        @Label("Outcome")
+        String outcome;
+    }
+
+    @Name(PREFIX + "ContextLoad")
+    @Label("Context Load")
+    @Category({ "Iron", "Ed25519Signature2020" })
+    @StackTrace(false)
+    static final class ContextLoad extends Event {
+
+        @Label("URL")
+        String url;
+
+        @Label("Source")
+        @Description("bundled, memory, disk, remote, shared (loaded by another thread), or failure (a cached failure)")
+        String source;
+
+        @Label("Cache Hit")
+        boolean hit;
+
+        @Label("Outcome")
+        String outcome;
+
+        void source(final String source, final boolean hit) {
+            this.source = source;
+            this.hit = hit;
+        }
+    }
+
+    /**
+     * Returns an error code, or a class name if the error has no code.
+     */
+    static String outcome(final Throwable error) {
+        if (error instanceof VerificationError verification && verification.getCode() != null) {
+            return verification.getCode().name();
+        }
+        if (error instanceof DocumentError document && document.getCode() != null) {
+            return document.getCode();
+        }
+        if (error instanceof SigningError signing && signing.getCode() != null) {
+            return signing.getCode().name();
+        }
+        return error.getClass().getSimpleName();
+    }
+}
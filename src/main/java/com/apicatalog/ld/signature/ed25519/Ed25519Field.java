@@ -0,0 +1,405 @@
+package com.apicatalog.ld.signature.ed25519;
+
+/**
+ * Arithmetic in GF(2^255 - 19). An element is represented by five unsigned
+ * 51-bit limbs stored in a <code>long[5]</code>, little-endian. All operations
+ * return weakly reduced elements, i.e. each limb fits into 52 bits, and accept
+ * the same output and input array.
+ */
+final class Ed25519Field {
+
+    static final long MASK = (1L << 51) - 1;
+
+    // 2p, used to keep subtraction results positive
+    static final long P2_0 = 0xFFFFFFFFFFFDAL;
+    static final long P2_1 = 0xFFFFFFFFFFFFEL;
+
+    static final long[] ZERO = new long[5];
+
+    private Ed25519Field() {
+        /* protected */
+    }
+
+    static long[] create() {
+        return new long[5];
+    }
+
+    static long[] of(long value) {
+        final long[] h = new long[5];
+        h[0] = value;
+        return h;
+    }
+
+    static void zero(long[] h) {
+        h[0] = 0;
+        h[1] = 0;
+        h[2] = 0;
+        h[3] = 0;
+        h[4] = 0;
+    }
+
+    static void one(long[] h) {
+        h[0] = 1;
+        h[1] = 0;
+        h[2] = 0;
+        h[3] = 0;
+        h[4] = 0;
+    }
+
+    static void copy(long[] h, long[] f) {
+        h[0] = f[0];
+        h[1] = f[1];
+        h[2] = f[2];
+        h[3] = f[3];
+        h[4] = f[4];
+    }
+
+    static void add(long[] h, long[] f, long[] g) {
+        long h0 = f[0] + g[0];
+        long h1 = f[1] + g[1];
+        long h2 = f[2] + g[2];
+        long h3 = f[3] + g[3];
+        long h4 = f[4] + g[4];
+
+        h1 += h0 >>> 51;
+        h0 &= MASK;
+        h2 += h1 >>> 51;
+        h1 &= MASK;
+        h3 += h2 >>> 51;
+        h2 &= MASK;
+        h4 += h3 >>> 51;
+        h3 &= MASK;
+        h0 += 19 * (h4 >>> 51);
+        h4 &= MASK;
+
+        h[0] = h0;
+        h[1] = h1;
+        h[2] = h2;
+        h[3] = h3;
+        h[4] = h4;
+    }
+
+    static void sub(long[] h, long[] f, long[] g) {
+        long h0 = f[0] + P2_0 - g[0];
+        long h1 = f[1] + P2_1 - g[1];
+        long h2 = f[2] + P2_1 - g[2];
+        long h3 = f[3] + P2_1 - g[3];
+        long h4 = f[4] + P2_1 - g[4];
+
+        h1 += h0 >>> 51;
+        h0 &= MASK;
+        h2 += h1 >>> 51;
+        h1 &= MASK;
+        h3 += h2 >>> 51;
+        h2 &= MASK;
+        h4 += h3 >>> 51;
+        h3 &= MASK;
+        h0 += 19 * (h4 >>> 51);
+        h4 &= MASK;
+
+        h[0] = h0;
+        h[1] = h1;
+        h[2] = h2;
+        h[3] = h3;
+        h[4] = h4;
+    }
+
+    static void neg(long[] h, long[] f) {
+        sub(h, ZERO, f);
+    }
+
+    /**
+     * Conditionally replaces <code>h</code> with <code>f</code> in constant time.
+     *
+     * @param h    an element to update
+     * @param f    a replacement
+     * @param flag <code>1</code> to replace, <code>0</code> to keep
+     *             <code>h</code>
+     */
+    static void cmov(long[] h, long[] f, int flag) {
+        final long mask = -(long) flag;
+        h[0] ^= (h[0] ^ f[0]) & mask;
+        h[1] ^= (h[1] ^ f[1]) & mask;
+        h[2] ^= (h[2] ^ f[2]) & mask;
+        h[3] ^= (h[3] ^ f[3]) & mask;
+        h[4] ^= (h[4] ^ f[4]) & mask;
+    }
+
+    // the lower 51 bits of a 102+ bit product
+    private static long lo(long x, long y) {
+        return (x * y) & MASK;
+    }
+
+    // the product shifted right by 51 bits
+    private static long hi(long x, long y) {
+        return (Math.multiplyHigh(x, y) << 13) | ((x * y) >>> 51);
+    }
+
+    static void mul(long[] h, long[] f, long[] g) {
+        final long f0 = f[0], f1 = f[1], f2 = f[2], f3 = f[3], f4 = f[4];
+        final long g0 = g[0], g1 = g[1], g2 = g[2], g3 = g[3], g4 = g[4];
+
+        final long g1_19 = 19 * g1;
+        final long g2_19 = 19 * g2;
+        final long g3_19 = 19 * g3;
+        final long g4_19 = 19 * g4;
+
+        // each coefficient is kept as l + h * 2^51
+        long l0 = lo(f0, g0) + lo(f1, g4_19) + lo(f2, g3_19) + lo(f3, g2_19) + lo(f4, g1_19);
+        long h0 = hi(f0, g0) + hi(f1, g4_19) + hi(f2, g3_19) + hi(f3, g2_19) + hi(f4, g1_19);
+
+        long l1 = lo(f0, g1) + lo(f1, g0) + lo(f2, g4_19) + lo(f3, g3_19) + lo(f4, g2_19);
+        long h1 = hi(f0, g1) + hi(f1, g0) + hi(f2, g4_19) + hi(f3, g3_19) + hi(f4, g2_19);
+
+        long l2 = lo(f0, g2) + lo(f1, g1) + lo(f2, g0) + lo(f3, g4_19) + lo(f4, g3_19);
+        long h2 = hi(f0, g2) + hi(f1, g1) + hi(f2, g0) + hi(f3, g4_19) + hi(f4, g3_19);
+
+        long l3 = lo(f0, g3) + lo(f1, g2) + lo(f2, g1) + lo(f3, g0) + lo(f4, g4_19);
+        long h3 = hi(f0, g3) + hi(f1, g2) + hi(f2, g1) + hi(f3, g0) + hi(f4, g4_19);
+
+        long l4 = lo(f0, g4) + lo(f1, g3) + lo(f2, g2) + lo(f3, g1) + lo(f4, g0);
+        long h4 = hi(f0, g4) + hi(f1, g3) + hi(f2, g2) + hi(f3, g1) + hi(f4, g0);
+
+        carry(h, l0, h0, l1, h1, l2, h2, l3, h3, l4, h4);
+    }
+
+    static void sq(long[] h, long[] f) {
+        final long f0 = f[0], f1 = f[1], f2 = f[2], f3 = f[3], f4 = f[4];
+
+        final long f0_2 = 2 * f0;
+        final long f1_2 = 2 * f1;
+        final long f2_2 = 2 * f2;
+        final long f3_2 = 2 * f3;
+
+        final long f3_19 = 19 * f3;
+        final long f4_19 = 19 * f4;
+
+        long l0 = lo(f0, f0) + lo(f1_2, f4_19) + lo(f2_2, f3_19);
+        long h0 = hi(f0, f0) + hi(f1_2, f4_19) + hi(f2_2, f3_19);
+
+        long l1 = lo(f0_2, f1) + lo(f2_2, f4_19) + lo(f3, f3_19);
+        long h1 = hi(f0_2, f1) + hi(f2_2, f4_19) + hi(f3, f3_19);
+
+        long l2 = lo(f0_2, f2) + lo(f1, f1) + lo(f3_2, f4_19);
+        long h2 = hi(f0_2, f2) + hi(f1, f1) + hi(f3_2, f4_19);
+
+        long l3 = lo(f0_2, f3) + lo(f1_2, f2) + lo(f4, f4_19);
+        long h3 = hi(f0_2, f3) + hi(f1_2, f2) + hi(f4, f4_19);
+
+        long l4 = lo(f0_2, f4) + lo(f1_2, f3) + lo(f2, f2);
+        long h4 = hi(f0_2, f4) + hi(f1_2, f3) + hi(f2, f2);
+
+        carry(h, l0, h0, l1, h1, l2, h2, l3, h3, l4, h4);
+    }
+
+    private static void carry(long[] h,
+            long l0, long h0,
+            long l1, long h1,
+            long l2, long h2,
+            long l3, long h3,
+            long l4, long h4) {
+
+        l1 += h0 + (l0 >>> 51);
+        l0 &= MASK;
+        l2 += h1 + (l1 >>> 51);
+        l1 &= MASK;
+        l3 += h2 + (l2 >>> 51);
+        l2 &= MASK;
+        l4 += h3 + (l3 >>> 51);
+        l3 &= MASK;
+
+        l0 += 19 * (h4 + (l4 >>> 51));
+        l4 &= MASK;
+
+        l1 += l0 >>> 51;
+        l0 &= MASK;
+
+        h[0] = l0;
+        h[1] = l1;
+        h[2] = l2;
+        h[3] = l3;
+        h[4] = l4;
+    }
+
+    /**
+     * Squares <code>f</code> n-times.
+     */
+    static void sq(long[] h, long[] f, int n) {
+        sq(h, f);
+        for (int i = 1; i < n; i++) {
+            sq(h, h);
+        }
+    }
+
+    /**
+     * Computes <code>z^(p-2)</code>, i.e. the multiplicative inverse.
+     */
+    static void invert(long[] out, long[] z) {
+        final long[] t0 = new long[5];
+        final long[] t1 = new long[5];
+        final long[] t2 = new long[5];
+        final long[] t3 = new long[5];
+
+        sq(t0, z);
+        sq(t1, t0, 2);
+        mul(t1, z, t1);
+        mul(t0, t0, t1);
+        sq(t2, t0);
+        mul(t1, t1, t2);
+        sq(t2, t1, 5);
+        mul(t1, t2, t1);
+        sq(t2, t1, 10);
+        mul(t2, t2, t1);
+        sq(t3, t2, 20);
+        mul(t2, t3, t2);
+        sq(t2, t2, 10);
+        mul(t1, t2, t1);
+        sq(t2, t1, 50);
+        mul(t2, t2, t1);
+        sq(t3, t2, 100);
+        mul(t2, t3, t2);
+        sq(t2, t2, 50);
+        mul(t1, t2, t1);
+        sq(t1, t1, 5);
+        mul(out, t1, t0);
+    }
+
+    /**
+     * Computes <code>z^((p-5)/8)</code>, used to compute square roots.
+     */
+    static void pow22523(long[] out, long[] z) {
+        final long[] t0 = new long[5];
+        final long[] t1 = new long[5];
+        final long[] t2 = new long[5];
+
+        sq(t0, z);
+        sq(t1, t0, 2);
+        mul(t1, z, t1);
+        mul(t0, t0, t1);
+        sq(t0, t0);
+        mul(t0, t1, t0);
+        sq(t1, t0, 5);
+        mul(t0, t1, t0);
+        sq(t1, t0, 10);
+        mul(t1, t1, t0);
+        sq(t2, t1, 20);
+        mul(t1, t2, t1);
+        sq(t1, t1, 10);
+        mul(t0, t1, t0);
+        sq(t1, t0, 50);
+        mul(t1, t1, t0);
+        sq(t2, t1, 100);
+        mul(t1, t2, t1);
+        sq(t1, t1, 50);
+        mul(t0, t1, t0);
+        sq(t0, t0, 2);
+        mul(out, t0, z);
+    }
+
+    /**
+     * Decodes 32 little-endian bytes, the most significant bit is ignored.
+     */
+    static void fromBytes(long[] h, byte[] s, int offset) {
+        final long w0 = load64(s, offset);
+        final long w1 = load64(s, offset + 8);
+        final long w2 = load64(s, offset + 16);
+        final long w3 = load64(s, offset + 24);
+
+        h[0] = w0 & MASK;
+        h[1] = ((w0 >>> 51) | (w1 << 13)) & MASK;
+        h[2] = ((w1 >>> 38) | (w2 << 26)) & MASK;
+        h[3] = ((w2 >>> 25) | (w3 << 39)) & MASK;
+        h[4] = (w3 >>> 12) & MASK;
+    }
+
+    /**
+     * Encodes the canonical, fully reduced, value as 32 little-endian bytes.
+     */
+    static void toBytes(byte[] s, int offset, long[] f) {
+        long h0 = f[0], h1 = f[1], h2 = f[2], h3 = f[3], h4 = f[4];
+
+        for (int i = 0; i < 3; i++) {
+            h1 += h0 >>> 51;
+            h0 &= MASK;
+            h2 += h1 >>> 51;
+            h1 &= MASK;
+            h3 += h2 >>> 51;
+            h2 &= MASK;
+            h4 += h3 >>> 51;
+            h3 &= MASK;
+            h0 += 19 * (h4 >>> 51);
+            h4 &= MASK;
+        }
+
+        // q = 1 if h >= p
+        long q = (h0 + 19) >>> 51;
+        q = (h1 + q) >>> 51;
+        q = (h2 + q) >>> 51;
+        q = (h3 + q) >>> 51;
+        q = (h4 + q) >>> 51;
+
+        h0 += 19 * q;
+
+        h1 += h0 >>> 51;
+        h0 &= MASK;
+        h2 += h1 >>> 51;
+        h1 &= MASK;
+        h3 += h2 >>> 51;
+        h2 &= MASK;
+        h4 += h3 >>> 51;
+        h3 &= MASK;
+        h4 &= MASK;
+
+        store64(s, offset, h0 | (h1 << 51));
+        store64(s, offset + 8, (h1 >>> 13) | (h2 << 38));
+        store64(s, offset + 16, (h2 >>> 26) | (h3 << 25));
+        store64(s, offset + 24, (h3 >>> 39) | (h4 << 12));
+    }
+
+    static byte[] toBytes(long[] f) {
+        final byte[] s = new byte[32];
+        toBytes(s, 0, f);
+        return s;
+    }
+
+    static boolean isNegative(long[] f) {
+        return (toBytes(f)[0] & 1) == 1;
+    }
+
+    static boolean isZero(long[] f) {
+        final byte[] s = toBytes(f);
+        int r = 0;
+        for (final byte b : s) {
+            r |= b;
+        }
+        return r == 0;
+    }
+
+    static boolean equals(long[] f, long[] g) {
+        final long[] h = new long[5];
+        sub(h, f, g);
+        return isZero(h);
+    }
+
+    static long load64(byte[] s, int offset) {
+        return (s[offset] & 0xFFL)
+                | (s[offset + 1] & 0xFFL) << 8
+                | (s[offset + 2] & 0xFFL) << 16
+                | (s[offset + 3] & 0xFFL) << 24
+                | (s[offset + 4] & 0xFFL) << 32
+                | (s[offset + 5] & 0xFFL) << 40
+                | (s[offset + 6] & 0xFFL) << 48
+                | (s[offset + 7] & 0xFFL) << 56;
+    }
+
+    static void store64(byte[] s, int offset, long value) {
+        s[offset] = (byte) value;
+        s[offset + 1] = (byte) (value >>> 8);
+        s[offset + 2] = (byte) (value >>> 16);
+        s[offset + 3] = (byte) (value >>> 24);
+        s[offset + 4] = (byte) (value >>> 32);
+        s[offset + 5] = (byte) (value >>> 40);
+        s[offset + 6] = (byte) (value >>> 48);
+        s[offset + 7] = (byte) (value >>> 56);
+    }
+}
@@ -0,0 +1,154 @@
+package com.apicatalog.ld.signature.ed25519;
+
+/**
+ * Precomputed multiples of the base point.
+ */
+final class Ed25519FixedBase {
+
+    /**
+     * A window width of base point odd multiples used by variable time
+     * multiplication.
+     */
+    static final int WINDOW = 8;
+
+    /**
+     * <code>TABLE[i][j] = (j + 1) * 256^i * B</code>, used by constant time
+     * multiplication.
+     */
+    static final Ed25519Point.Precomputed[][] TABLE;
+
+    /**
+     * Odd multiples <code>B, 3B, 5B, ..., 127B</code>.
+     */
+    static final Ed25519Point.Cached[] ODD_MULTIPLES;
+
+    static {
+        final long[][] ws = Ed25519Point.workspace();
+
+        TABLE = new Ed25519Point.Precomputed[32][8];
+
+        final Ed25519Point p = new Ed25519Point();
+        p.set(Ed25519Point.BASE);
+
+        final Ed25519Point q = new Ed25519Point();
+
+        for (int i = 0; i < TABLE.length; i++) {
+
+            final Ed25519Point.Cached pc = p.cached();
+
+            q.set(p);
+            TABLE[i][0] = q.precomputed();
+
+            for (int j = 1; j < TABLE[i].length; j++) {
+                Ed25519Point.add(q, q, pc, ws);
+                TABLE[i][j] = q.precomputed();
+            }
+
+            for (int j = 0; j < 8; j++) {
+                Ed25519Point.dbl(p, p, ws);
+            }
+        }
+
+        ODD_MULTIPLES = Ed25519Point.oddMultiples(Ed25519Point.BASE, WINDOW, ws);
+    }
+
+    private Ed25519FixedBase() {
+        /* protected */
+    }
+
+    /**
+     * Computes <code>a * B</code> in constant time.
+     *
+     * @param a a 32 bytes little-endian scalar, <code>a[31] &lt;= 127</code>
+     * @return a new point
+     */
+    static Ed25519Point multiply(final byte[] a) {
+
+        // signed radix-16 digits, -8 <= e[i] <= 8
+        final int[] e = new int[64];
+
+        for (int i = 0; i < 32; i++) {
+            e[2 * i] = a[i] & 15;
+            e[2 * i + 1] = (a[i] >>> 4) & 15;
+        }
+
+        int carry = 0;
+        for (int i = 0; i < 63; i++) {
+            e[i] += carry;
+            carry = (e[i] + 8) >> 4;
+            e[i] -= carry << 4;
+        }
+        e[63] += carry;
+
+        final long[][] ws = Ed25519Point.workspace();
+
+        final Ed25519Point h = Ed25519Point.identity();
+        final Ed25519Point.Precomputed t = new Ed25519Point.Precomputed();
+        final Ed25519Point.Precomputed minus = new Ed25519Point.Precomputed();
+
+        for (int i = 1; i < 64; i += 2) {
+            select(t, minus, i >>> 1, e[i]);
+            Ed25519Point.madd(h, h, t, ws);
+        }
+
+        Ed25519Point.dbl(h, h, ws);
+        Ed25519Point.dbl(h, h, ws);
+        Ed25519Point.dbl(h, h, ws);
+        Ed25519Point.dbl(h, h, ws);
+
+        for (int i = 0; i < 64; i += 2) {
+            select(t, minus, i >>> 1, e[i]);
+            Ed25519Point.madd(h, h, t, ws);
+        }
+
+        return h;
+    }
+
+    /**
+     * Computes <code>s * B - k * A</code> in variable time.
+     */
+    static Ed25519Point multiply(final byte[] s, final byte[] k, final Ed25519Point a) {
+
+        final long[][] ws = Ed25519Point.workspace();
+
+        final Ed25519Point minusA = new Ed25519Point();
+        minusA.set(a);
+        minusA.negate();
+
+        return Ed25519Point.multiply(
+                new byte[][] {
+                        Ed25519Scalar.naf(s, WINDOW),
+                        Ed25519Scalar.naf(k, 5)
+                },
+                new Ed25519Point.Cached[][] {
+                        ODD_MULTIPLES,
+                        Ed25519Point.oddMultiples(minusA, 5, ws)
+                },
+                ws);
+    }
+
+    /**
+     * Selects <code>b * 256^pos * B</code> in constant time.
+     */
+    static void select(final Ed25519Point.Precomputed t, final Ed25519Point.Precomputed minus, final int pos, final int b) {
+
+        final int negative = (b >>> 31) & 1;
+        final int abs = b - ((-negative & b) << 1);
+
+        t.setIdentity();
+
+        for (int i = 0; i < 8; i++) {
+            t.cmov(TABLE[pos][i], equal(abs, i + 1));
+        }
+
+        Ed25519Field.copy(minus.ypx, t.ymx);
+        Ed25519Field.copy(minus.ymx, t.ypx);
+        Ed25519Field.neg(minus.xy2d, t.xy2d);
+
+        t.cmov(minus, negative);
+    }
+
+    static int equal(final int a, final int b) {
+        return ((a ^ b) - 1) >>> 31;
+    }
+}
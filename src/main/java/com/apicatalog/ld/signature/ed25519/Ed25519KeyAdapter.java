@@ -2,6 +2,7 @@ package com.apicatalog.ld.signature.ed25519;
 
 import java.net.URI;
 
+import com.apicatalog.jsonld.lang.Keywords;
 import com.apicatalog.ld.DocumentError;
 import com.apicatalog.ld.DocumentError.ErrorType;
 import com.apicatalog.ld.Term;
@@ -11,13 +12,16 @@ import com.apicatalog.ld.node.LdScalar;
 import com.apicatalog.ld.signature.VerificationMethod;
 import com.apicatalog.ld.signature.key.KeyPair;
 import com.apicatalog.ld.signature.key.VerificationKey;
-import com.apicatalog.multibase.Multibase;
 import com.apicatalog.multicodec.Multicodec;
 import com.apicatalog.multicodec.codec.KeyCodec;
 import com.apicatalog.vc.VcVocab;
 import com.apicatalog.vc.method.MethodAdapter;
 
+import jakarta.json.Json;
+import jakarta.json.JsonArray;
 import jakarta.json.JsonObject;
+import jakarta.json.JsonString;
+import jakarta.json.JsonValue;
 
 public class Ed25519KeyAdapter implements MethodAdapter {
 
@@ -25,14 +29,124 @@ public class Ed25519KeyAdapter implements MethodAdapter {
 
     public static final URI KEY_PAIR_TYPE_URI = URI.create(VcVocab.SECURITY_VOCAB + "Ed25519KeyPair2020");
 
+    static final JsonString VERIFICATION_KEY_TYPE = Json.createValue(VERIFICATION_KEY_TYPE_URI.toString());
+
+    static final JsonString KEY_PAIR_TYPE = Json.createValue(KEY_PAIR_TYPE_URI.toString());
+
+    static final JsonString MULTIBASE_TYPE = Json.createValue("https://w3id.org/security#multibase");
+
     public static final Term CONTROLLER = Term.create("controller", VcVocab.SECURITY_VOCAB);
 
     public static final Term PUBLIC_KEY = Term.create("publicKeyMultibase", VcVocab.SECURITY_VOCAB);
     public static final Term PRIVATE_KEY = Term.create("privateKeyMultibase", VcVocab.SECURITY_VOCAB);
 
+    /**
+     * A key of a decoded verification method cache.
+     *
+     * @param id         a verification method id
+     * @param controller a controller id or <code>null</code>
+     * @param publicKey  an encoded public key, i.e. publicKeyMultibase value
+     */
+    public record MethodKey(String id, String controller, String publicKey) {
+    }
+
+    protected final BoundedCache<MethodKey, VerificationMethod> cache;
+
+    public Ed25519KeyAdapter() {
+        this(null);
+    }
+
+    /**
+     * Creates a new adapter caching decoded verification methods. Only
+     * {@link #VERIFICATION_KEY_TYPE_URI} methods with no private key are
+     * cached, cached instances are shared and must not be modified.
+     *
+     * @param cache a cache of decoded methods, <code>null</code> disables
+     *              caching
+     */
+    public Ed25519KeyAdapter(BoundedCache<MethodKey, VerificationMethod> cache) {
+        this.cache = cache;
+    }
+
     @Override
     public VerificationMethod read(JsonObject document) throws DocumentError {
-        return from(document);
+
+        if (cache == null || document == null) {
+            return from(document);
+        }
+
+        final MethodKey key = key(document);
+
+        if (key == null) {
+            return from(document);
+        }
+
+        VerificationMethod method = cache.get(key);
+
+        if (method == null) {
+            method = from(document);
+            cache.put(key, method);
+        }
+
+        return method;
+    }
+
+    public BoundedCache<MethodKey, VerificationMethod> cache() {
+        return cache;
+    }
+
+    /**
+     * Returns a cache key of an expanded verification key document, or
+     * <code>null</code> if the document is not a plain
+     * {@link #VERIFICATION_KEY_TYPE_URI} and must be decoded.
+     */
+    static MethodKey key(final JsonObject document) {
+
+        if (document.containsKey(PRIVATE_KEY.uri())) {
+            return null;
+        }
+
+        final JsonValue id = document.get(Keywords.ID);
+        final JsonValue type = document.get(Keywords.TYPE);
+
+        if (!(id instanceof JsonString)
+                || !(type instanceof JsonArray)
+                || !((JsonArray) type).contains(VERIFICATION_KEY_TYPE)
+                || ((JsonArray) type).contains(KEY_PAIR_TYPE)) {
+            return null;
+        }
+
+        final JsonObject publicKey = single(document.get(PUBLIC_KEY.uri()));
+
+        if (publicKey == null
+                || !MULTIBASE_TYPE.equals(publicKey.get(Keywords.TYPE))
+                || !(publicKey.get(Keywords.VALUE) instanceof JsonString)) {
+            return null;
+        }
+
+        String controller = null;
+
+        if (document.containsKey(CONTROLLER.uri())) {
+            final JsonObject node = single(document.get(CONTROLLER.uri()));
+            if (node == null || !(node.get(Keywords.ID) instanceof JsonString) || node.size() != 1) {
+                return null;
+            }
+            controller = node.getString(Keywords.ID);
+        }
+
+        return new MethodKey(
+                ((JsonString) id).getString(),
+                controller,
+                publicKey.getString(Keywords.VALUE));
+    }
+
+    static JsonObject single(final JsonValue value) {
+        if (value instanceof JsonArray
+                && ((JsonArray) value).size() == 1
+                && ((JsonArray) value).get(0) instanceof JsonObject) {
+            return ((JsonArray) value).getJsonObject(0);
+        }
+        return null;
     }
 
     public static VerificationMethod from(JsonObject document) throws DocumentError {
@@ -68,9 +182,7 @@ public class Ed25519KeyAdapter implements MethodAdapter {
         }
 
         // validate public key
-        if (publicKey != null && publicKey.length != 32
-                && publicKey.length != 57
-                && publicKey.length != 114) {
+        if (publicKey != null && publicKey.length != 32) {
             throw new DocumentError(ErrorType.Invalid, "PublicKeyLength");
         }
 
@@ -94,11 +206,11 @@ public class Ed25519KeyAdapter implements MethodAdapter {
 
             final String encodedKey = key.string();
 
-            if (!Multibase.BASE_58_BTC.isEncoded(encodedKey)) {
+            if (!Base58Btc.MULTIBASE.isEncoded(encodedKey)) {
                 throw new DocumentError(ErrorType.Invalid, term.name() + "Type");
             }
 
-            final byte[] decodedKey = Multibase.BASE_58_BTC.decode(encodedKey);
+            final byte[] decodedKey = Base58Btc.MULTIBASE.decode(encodedKey);
 
             return codec.decode(decodedKey);
         }
@@ -128,7 +240,7 @@ public class Ed25519KeyAdapter implements MethodAdapter {
             if (verificationKey.publicKey() != null) {
                 builder.set(PUBLIC_KEY)
                         .scalar("https://w3id.org/security#multibase",
-                                Multibase.BASE_58_BTC.encode(
+                                Base58Btc.MULTIBASE.encode(
                                         KeyCodec.ED25519_PUBLIC_KEY
                                                 .encode(verificationKey.publicKey())));
                 ;
@@ -142,7 +254,7 @@ public class Ed25519KeyAdapter implements MethodAdapter {
             if (keyPair.privateKey() != null) {
                 builder.set(PRIVATE_KEY)
                         .scalar("https://w3id.org/security#multibase",
-                                Multibase.BASE_58_BTC.encode(
+                                Base58Btc.MULTIBASE.encode(
                                         KeyCodec.ED25519_PRIVATE_KEY
                                                 .encode(keyPair.privateKey())));
                 ;
@@ -0,0 +1,94 @@
+package com.apicatalog.ld.signature.ed25519;
+
+import java.net.URI;
+import java.security.SecureRandom;
+import java.security.spec.EdECPoint;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import com.apicatalog.multicodec.codec.KeyCodec;
+
+/**
+ * Creates {@link Ed25519KeyPair2020} instances identified by
+ * <code>did:key</code>.
+ */
+final class Ed25519KeyGenerator {
+
+    // private keys of all pairs are drawn into a single array
+    static final int MAX_COUNT = Integer.MAX_VALUE / 32;
+
+    private Ed25519KeyGenerator() {
+        /* protected */
+    }
+
+    /**
+     * Generates the given number of key pairs. Private keys are drawn from the
+     * given random source at once, public keys are derived in parallel.
+     *
+     * @param count  a number of key pairs to generate
+     * @param random a source of private keys
+     * @return generated key pairs
+     * @throws IllegalArgumentException if the count is not positive or the
+     *                                  private keys do not fit into an array
+     */
+    static List<Ed25519KeyPair2020> generate(final int count, final SecureRandom random) {
+
+        if (count <= 0 || count > MAX_COUNT) {
+            throw new IllegalArgumentException("The count must be between 1 and " + MAX_COUNT + " but was " + count + ".");
+        }
+
+        final byte[] seeds = new byte[count * 32];
+        random.nextBytes(seeds);
+
+        try {
+            return IntStream.range(0, count)
+                    .parallel()
+                    .mapToObj(i -> derive(Arrays.copyOfRange(seeds, i * 32, i * 32 + 32)))
+                    .collect(Collectors.toList());
+
+        } finally {
+            Arrays.fill(seeds, (byte) 0);
+        }
+    }
+
+    static Ed25519KeyPair2020 derive(final byte[] privateKey) {
+        try (final Ed25519PreparedSigner signer = new Ed25519PreparedSigner(privateKey)) {
+            return create(signer.publicKey(), privateKey);
+        }
+    }
+
+    static Ed25519KeyPair2020 create(final byte[] publicKey, final byte[] privateKey) {
+
+        final String encoded = Base58Btc.MULTIBASE.encode(KeyCodec.ED25519_PUBLIC_KEY.encode(publicKey));
+
+        final URI controller = URI.create("did:key:" + encoded);
+
+        return new Ed25519KeyPair2020(
+                URI.create(controller + "#" + encoded),
+                controller,
+                Ed25519KeyAdapter.KEY_PAIR_TYPE_URI,
+                publicKey,
+                privateKey);
+    }
+
+    /**
+     * Encodes the given point as 32 bytes, RFC 8032, 5.1.2.
+     */
+    static byte[] encode(final EdECPoint point) {
+
+        final byte[] y = point.getY().toByteArray();
+        final byte[] encoded = new byte[32];
+
+        // big-endian, possibly with a leading zero byte, to little-endian
+        for (int i = 0; i < Math.min(32, y.length); i++) {
+            encoded[i] = y[y.length - 1 - i];
+        }
+
+        if (point.isXOdd()) {
+            encoded[31] |= (byte) 0x80;
+        }
+        return encoded;
+    }
+}
@@ -1,6 +1,7 @@
 package com.apicatalog.ld.signature.ed25519;
 
 import java.net.URI;
+import java.util.Arrays;
 import java.util.Objects;
 
 import com.apicatalog.ld.signature.key.KeyPair;
@@ -12,8 +13,49 @@ public record Ed25519KeyPair2020(
         byte[] publicKey,
         byte[] privateKey) implements KeyPair {
 
+    /**
+     * Creates a new key pair. The keys are copied, a decoded key pair can be
+     * cached and shared.
+     */
     public Ed25519KeyPair2020 {
         Objects.requireNonNull(id);
+        publicKey = publicKey != null ? publicKey.clone() : null;
+        privateKey = privateKey != null ? privateKey.clone() : null;
+    }
+
+    /**
+     * Returns a copy of the public key.
+     *
+     * @return a public key or <code>null</code>
+     */
+    @Override
+    public byte[] publicKey() {
+        return publicKey != null ? publicKey.clone() : null;
+    }
+
+    /**
+     * Returns a copy of the private key.
+     *
+     * @return a private key or <code>null</code>
+     */
+    @Override
+    public byte[] privateKey() {
+        return privateKey != null ? privateKey.clone() : null;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        return obj instanceof Ed25519KeyPair2020 other
+                && id.equals(other.id)
+                && Objects.equals(controller, other.controller)
+                && Objects.equals(type, other.type)
+                && Arrays.equals(publicKey, other.publicKey)
+                && Arrays.equals(privateKey, other.privateKey);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id, controller, type, Arrays.hashCode(publicKey), Arrays.hashCode(privateKey));
     }
 
     @Override
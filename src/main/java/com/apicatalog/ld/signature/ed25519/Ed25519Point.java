@@ -0,0 +1,451 @@
+package com.apicatalog.ld.signature.ed25519;
+
+import static com.apicatalog.ld.signature.ed25519.Ed25519Field.mul;
+import static com.apicatalog.ld.signature.ed25519.Ed25519Field.sq;
+
+/**
+ * A point on the twisted Edwards curve
+ * <code>-x^2 + y^2 = 1 + d x^2 y^2</code> in extended coordinates
+ * <code>(X:Y:Z:T)</code>, where <code>x = X/Z, y = Y/Z, x * y = T/Z</code>.
+ * Operations follow RFC 8032, section 5.1.4.
+ */
+final class Ed25519Point {
+
+    static final long[] D;
+    static final long[] D2;
+    static final long[] SQRT_M1;
+
+    static final Ed25519Point BASE;
+
+    static {
+        // d = -121665/121666
+        D = Ed25519Field.create();
+        Ed25519Field.invert(D, Ed25519Field.of(121666));
+        mul(D, D, Ed25519Field.of(121665));
+        Ed25519Field.neg(D, D);
+
+        D2 = Ed25519Field.create();
+        Ed25519Field.add(D2, D, D);
+
+        // sqrt(-1) = 2^((p-1)/4)
+        SQRT_M1 = Ed25519Field.create();
+        Ed25519Field.pow22523(SQRT_M1, Ed25519Field.of(2));
+        sq(SQRT_M1, SQRT_M1);
+        mul(SQRT_M1, SQRT_M1, Ed25519Field.of(2));
+
+        // y = 4/5, x is positive
+        final long[] y = Ed25519Field.create();
+        Ed25519Field.invert(y, Ed25519Field.of(5));
+        mul(y, y, Ed25519Field.of(4));
+
+        BASE = decode(Ed25519Field.toBytes(y), 0);
+    }
+
+    final long[] x;
+    final long[] y;
+    final long[] z;
+    final long[] t;
+
+    Ed25519Point() {
+        this.x = Ed25519Field.create();
+        this.y = Ed25519Field.create();
+        this.z = Ed25519Field.create();
+        this.t = Ed25519Field.create();
+    }
+
+    static Ed25519Point identity() {
+        final Ed25519Point p = new Ed25519Point();
+        p.setIdentity();
+        return p;
+    }
+
+    void setIdentity() {
+        Ed25519Field.zero(x);
+        Ed25519Field.one(y);
+        Ed25519Field.one(z);
+        Ed25519Field.zero(t);
+    }
+
+    void set(Ed25519Point p) {
+        Ed25519Field.copy(x, p.x);
+        Ed25519Field.copy(y, p.y);
+        Ed25519Field.copy(z, p.z);
+        Ed25519Field.copy(t, p.t);
+    }
+
+    Ed25519Point negate() {
+        Ed25519Field.neg(x, x);
+        Ed25519Field.neg(t, t);
+        return this;
+    }
+
+    boolean isIdentity() {
+        return Ed25519Field.isZero(x) && Ed25519Field.equals(y, z);
+    }
+
+    /**
+     * Decodes a point, returns <code>null</code> if the given bytes do not
+     * represent a valid canonical point encoding. Runs in variable time.
+     */
+    static Ed25519Point decode(byte[] s, int offset) {
+
+        final Ed25519Point p = new Ed25519Point();
+
+        Ed25519Field.fromBytes(p.y, s, offset);
+
+        // y must be less than p
+        final byte[] canonical = Ed25519Field.toBytes(p.y);
+        for (int i = 0; i < 31; i++) {
+            if (canonical[i] != s[offset + i]) {
+                return null;
+            }
+        }
+        if (canonical[31] != (s[offset + 31] & 0x7F)) {
+            return null;
+        }
+
+        final int sign = (s[offset + 31] >>> 7) & 1;
+
+        final long[] u = Ed25519Field.create();
+        final long[] v = Ed25519Field.create();
+        final long[] v3 = Ed25519Field.create();
+        final long[] vx2 = Ed25519Field.create();
+
+        Ed25519Field.one(p.z);
+
+        // u = y^2 - 1, v = d * y^2 + 1
+        sq(u, p.y);
+        mul(v, u, D);
+        Ed25519Field.sub(u, u, p.z);
+        Ed25519Field.add(v, v, p.z);
+
+        // x = u * v^3 * (u * v^7)^((p-5)/8)
+        sq(v3, v);
+        mul(v3, v3, v);
+        sq(p.x, v3);
+        mul(p.x, p.x, v);
+        mul(p.x, p.x, u);
+        Ed25519Field.pow22523(p.x, p.x);
+        mul(p.x, p.x, v3);
+        mul(p.x, p.x, u);
+
+        sq(vx2, p.x);
+        mul(vx2, vx2, v);
+
+        if (!Ed25519Field.equals(vx2, u)) {
+
+            Ed25519Field.add(vx2, vx2, u);
+
+            if (!Ed25519Field.isZero(vx2)) {
+                return null;
+            }
+            mul(p.x, p.x, SQRT_M1);
+        }
+
+        final boolean negative = Ed25519Field.isNegative(p.x);
+
+        if (sign == 1 && Ed25519Field.isZero(p.x)) {
+            return null;
+        }
+
+        if (negative != (sign == 1)) {
+            Ed25519Field.neg(p.x, p.x);
+        }
+
+        mul(p.t, p.x, p.y);
+
+        return p;
+    }
+
+    byte[] encode() {
+        final byte[] s = new byte[32];
+        encode(s, 0);
+        return s;
+    }
+
+    void encode(byte[] s, int offset) {
+        final long[] zi = Ed25519Field.create();
+        final long[] ax = Ed25519Field.create();
+        final long[] ay = Ed25519Field.create();
+
+        Ed25519Field.invert(zi, z);
+        mul(ax, x, zi);
+        mul(ay, y, zi);
+
+        Ed25519Field.toBytes(s, offset, ay);
+
+        if (Ed25519Field.isNegative(ax)) {
+            s[offset + 31] |= (byte) 0x80;
+        }
+    }
+
+    Cached cached() {
+        final Cached c = new Cached();
+        Ed25519Field.add(c.ypx, y, x);
+        Ed25519Field.sub(c.ymx, y, x);
+        Ed25519Field.add(c.z2, z, z);
+        mul(c.t2d, t, D2);
+        return c;
+    }
+
+    static long[][] workspace() {
+        return new long[8][5];
+    }
+
+    /**
+     * <code>r = 2 * p</code>, <code>r</code> and <code>p</code> can be the same
+     * instance.
+     */
+    static void dbl(Ed25519Point r, Ed25519Point p, long[][] w) {
+        final long[] a = w[0];
+        final long[] b = w[1];
+        final long[] c = w[2];
+        final long[] h = w[3];
+        final long[] e = w[4];
+        final long[] g = w[5];
+        final long[] f = w[6];
+
+        sq(a, p.x);
+        sq(b, p.y);
+        sq(c, p.z);
+        Ed25519Field.add(c, c, c);
+        Ed25519Field.add(h, a, b);
+        Ed25519Field.add(e, p.x, p.y);
+        sq(e, e);
+        Ed25519Field.sub(e, h, e);
+        Ed25519Field.sub(g, a, b);
+        Ed25519Field.add(f, c, g);
+
+        mul(r.x, e, f);
+        mul(r.y, g, h);
+        mul(r.t, e, h);
+        mul(r.z, f, g);
+    }
+
+    /**
+     * <code>r = p + q</code>, <code>r</code> and <code>p</code> can be the same
+     * instance.
+     */
+    static void add(Ed25519Point r, Ed25519Point p, Cached q, long[][] w) {
+        final long[] a = w[0];
+        final long[] b = w[1];
+        final long[] c = w[2];
+        final long[] d = w[3];
+        final long[] e = w[4];
+        final long[] f = w[5];
+        final long[] g = w[6];
+        final long[] h = w[7];
+
+        Ed25519Field.sub(a, p.y, p.x);
+        mul(a, a, q.ymx);
+        Ed25519Field.add(b, p.y, p.x);
+        mul(b, b, q.ypx);
+        mul(c, p.t, q.t2d);
+        mul(d, p.z, q.z2);
+
+        Ed25519Field.sub(e, b, a);
+        Ed25519Field.sub(f, d, c);
+        Ed25519Field.add(g, d, c);
+        Ed25519Field.add(h, b, a);
+
+        mul(r.x, e, f);
+        mul(r.y, g, h);
+        mul(r.t, e, h);
+        mul(r.z, f, g);
+    }
+
+    /**
+     * <code>r = p - q</code>, <code>r</code> and <code>p</code> can be the same
+     * instance.
+     */
+    static void sub(Ed25519Point r, Ed25519Point p, Cached q, long[][] w) {
+        final long[] a = w[0];
+        final long[] b = w[1];
+        final long[] c = w[2];
+        final long[] d = w[3];
+        final long[] e = w[4];
+        final long[] f = w[5];
+        final long[] g = w[6];
+        final long[] h = w[7];
+
+        Ed25519Field.sub(a, p.y, p.x);
+        mul(a, a, q.ypx);
+        Ed25519Field.add(b, p.y, p.x);
+        mul(b, b, q.ymx);
+        mul(c, p.t, q.t2d);
+        mul(d, p.z, q.z2);
+
+        Ed25519Field.sub(e, b, a);
+        Ed25519Field.add(f, d, c);
+        Ed25519Field.sub(g, d, c);
+        Ed25519Field.add(h, b, a);
+
+        mul(r.x, e, f);
+        mul(r.y, g, h);
+        mul(r.t, e, h);
+        mul(r.z, f, g);
+    }
+
+    /**
+     * Computes odd multiples <code>P, 3P, 5P, ..., (2^(w-1) - 1)P</code>.
+     */
+    static Cached[] oddMultiples(Ed25519Point p, int w, long[][] ws) {
+
+        final Cached[] table = new Cached[1 << (w - 2)];
+
+        final Ed25519Point p2 = new Ed25519Point();
+        dbl(p2, p, ws);
+        final Cached p2c = p2.cached();
+
+        final Ed25519Point q = new Ed25519Point();
+        q.set(p);
+
+        table[0] = q.cached();
+
+        for (int i = 1; i < table.length; i++) {
+            add(q, q, p2c, ws);
+            table[i] = q.cached();
+        }
+        return table;
+    }
+
+    /**
+     * Computes <code>sum(nafs[i] * tables[i][0])</code>, where
+     * <code>tables[i]</code> are odd multiples of a point, by interleaving w-NAF
+     * representations of the scalars (Straus' method). Runs in variable time,
+     * must not be used with secret scalars.
+     */
+    static Ed25519Point multiply(byte[][] nafs, Cached[][] tables, long[][] ws) {
+
+        int top = -1;
+
+        for (final byte[] naf : nafs) {
+            for (int j = naf.length - 1; j > top; j--) {
+                if (naf[j] != 0) {
+                    top = j;
+                    break;
+                }
+            }
+        }
+
+        final Ed25519Point r = identity();
+
+        for (int i = top; i >= 0; i--) {
+
+            dbl(r, r, ws);
+
+            for (int j = 0; j < nafs.length; j++) {
+                final int d = nafs[j][i];
+
+                if (d > 0) {
+                    add(r, r, tables[j][d >>> 1], ws);
+
+                } else if (d < 0) {
+                    sub(r, r, tables[j][(-d) >>> 1], ws);
+                }
+            }
+        }
+        return r;
+    }
+
+    /**
+     * <code>r = p + q</code>, where <code>q</code> is an affine point.
+     * <code>r</code> and <code>p</code> can be the same instance.
+     */
+    static void madd(Ed25519Point r, Ed25519Point p, Precomputed q, long[][] w) {
+        final long[] a = w[0];
+        final long[] b = w[1];
+        final long[] c = w[2];
+        final long[] d = w[3];
+        final long[] e = w[4];
+        final long[] f = w[5];
+        final long[] g = w[6];
+        final long[] h = w[7];
+
+        Ed25519Field.sub(a, p.y, p.x);
+        mul(a, a, q.ymx);
+        Ed25519Field.add(b, p.y, p.x);
+        mul(b, b, q.ypx);
+        mul(c, p.t, q.xy2d);
+        Ed25519Field.add(d, p.z, p.z);
+
+        Ed25519Field.sub(e, b, a);
+        Ed25519Field.sub(f, d, c);
+        Ed25519Field.add(g, d, c);
+        Ed25519Field.add(h, b, a);
+
+        mul(r.x, e, f);
+        mul(r.y, g, h);
+        mul(r.t, e, h);
+        mul(r.z, f, g);
+    }
+
+    Precomputed precomputed() {
+        final long[] zi = Ed25519Field.create();
+        final long[] ax = Ed25519Field.create();
+        final long[] ay = Ed25519Field.create();
+
+        Ed25519Field.invert(zi, z);
+        mul(ax, x, zi);
+        mul(ay, y, zi);
+
+        final Precomputed p = new Precomputed();
+        Ed25519Field.add(p.ypx, ay, ax);
+        Ed25519Field.sub(p.ymx, ay, ax);
+        mul(p.xy2d, ax, ay);
+        mul(p.xy2d, p.xy2d, D2);
+        return p;
+    }
+
+    /**
+     * A point representation suitable for additions,
+     * <code>(Y+X, Y-X, 2Z, 2dT)</code>.
+     */
+    static final class Cached {
+
+        final long[] ypx;
+        final long[] ymx;
+        final long[] z2;
+        final long[] t2d;
+
+        Cached() {
+            this.ypx = Ed25519Field.create();
+            this.ymx = Ed25519Field.create();
+            this.z2 = Ed25519Field.create();
+            this.t2d = Ed25519Field.create();
+        }
+    }
+
+    /**
+     * An affine point representation suitable for mixed additions,
+     * <code>(y+x, y-x, 2dxy)</code>.
+     */
+    static final class Precomputed {
+
+        final long[] ypx;
+        final long[] ymx;
+        final long[] xy2d;
+
+        Precomputed() {
+            this.ypx = Ed25519Field.create();
+            this.ymx = Ed25519Field.create();
+            this.xy2d = Ed25519Field.create();
+        }
+
+        void setIdentity() {
+            Ed25519Field.one(ypx);
+            Ed25519Field.one(ymx);
+            Ed25519Field.zero(xy2d);
+        }
+
+        /**
+         * Replaces this point with the given one if <code>flag</code> is
+         * <code>1</code>, runs in constant time.
+         */
+        void cmov(Precomputed p, int flag) {
+            Ed25519Field.cmov(ypx, p.ypx, flag);
+            Ed25519Field.cmov(ymx, p.ymx, flag);
+            Ed25519Field.cmov(xy2d, p.xy2d, flag);
+        }
+    }
+}
@@ -0,0 +1,167 @@
+package com.apicatalog.ld.signature.ed25519;
+
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.security.MessageDigest;
+import java.util.Arrays;
+import java.util.Objects;
+
+import com.apicatalog.ld.signature.SigningError;
+
+/**
+ * A signer bound to a single private key. The private key is expanded by
+ * SHA-512 into a secret scalar and a prefix once, and reused for every
+ * signature. {@link #close()} zeroes the expanded key material.
+ * <p>
+ * Signing runs in constant time and produces the same signatures as any other
+ * RFC 8032 compliant implementation. An instance is thread-safe.
+ * </p>
+ */
+public final class Ed25519PreparedSigner implements AutoCloseable {
+
+    final byte[] scalar;
+    final byte[] prefix;
+    final byte[] publicKey;
+
+    volatile boolean closed;
+
+    /**
+     * Creates a new signer.
+     *
+     * @param privateKey 32 bytes private key
+     */
+    public Ed25519PreparedSigner(final byte[] privateKey) {
+
+        if (privateKey == null || privateKey.length != 32) {
+            throw new IllegalArgumentException("The private key must be 32 bytes long.");
+        }
+
+        final byte[] h = JavaSignatureProvider.sha512().digest(privateKey);
+
+        // clamp the secret scalar
+        this.scalar = Arrays.copyOf(h, 32);
+        this.scalar[0] &= (byte) 248;
+        this.scalar[31] &= 127;
+        this.scalar[31] |= 64;
+
+        this.prefix = Arrays.copyOfRange(h, 32, 64);
+
+        Arrays.fill(h, (byte) 0);
+
+        this.publicKey = Ed25519FixedBase.multiply(scalar).encode();
+    }
+
+    /**
+     * Signs the given data.
+     *
+     * @param data data to sign
+     * @return 64 bytes signature
+     * @throws SigningError if the signer has been closed
+     */
+    public byte[] sign(final byte[] data) throws SigningError {
+        return sign(data, 0, data.length);
+    }
+
+    /**
+     * Signs the given data slice.
+     *
+     * @param data   an array holding data to sign
+     * @param offset an offset of the data
+     * @param length a length of the data
+     * @return 64 bytes signature
+     * @throws SigningError if the signer has been closed
+     */
+    public byte[] sign(final byte[] data, final int offset, final int length) throws SigningError {
+
+        Objects.checkFromIndexSize(offset, length, data.length);
+
+        final byte[] signature = new byte[64];
+
+        sign(data, offset, length, null, signature, 0);
+
+        return signature;
+    }
+
+    /**
+     * Signs remaining bytes of the given buffer and puts 64 bytes signature to
+     * the signature buffer. The data buffer position is not changed, the
+     * signature buffer position is advanced.
+     *
+     * @param data      data to sign
+     * @param signature a buffer receiving a signature
+     * @throws SigningError             if the signer has been closed
+     * @throws BufferOverflowException if there are less than 64 bytes remaining
+     *                                  in the signature buffer
+     */
+    public void sign(final ByteBuffer data, final ByteBuffer signature) throws SigningError {
+
+        if (signature.remaining() < 64) {
+            throw new BufferOverflowException();
+        }
+
+        if (signature.hasArray()) {
+            sign(null, 0, 0, data, signature.array(), signature.arrayOffset() + signature.position());
+            signature.position(signature.position() + 64);
+            return;
+        }
+
+        final byte[] bytes = new byte[64];
+        sign(null, 0, 0, data, bytes, 0);
+        signature.put(bytes);
+    }
+
+    // signs the array slice or the buffer if not null
+    void sign(final byte[] data, final int offset, final int length, final ByteBuffer buffer, final byte[] signature, final int signatureOffset) throws SigningError {
+
+        if (closed) {
+            throw new SigningError(SigningError.Code.Internal);
+        }
+
+        final MessageDigest sha512 = JavaSignatureProvider.sha512();
+
+        sha512.update(prefix);
+        JavaSignatureProvider.update(sha512, data, offset, length, buffer);
+
+        final byte[] r = Ed25519Scalar.reduce(sha512.digest(), 0);
+
+        Ed25519FixedBase.multiply(r).encode(signature, signatureOffset);
+
+        sha512.update(signature, signatureOffset, 32);
+        sha512.update(publicKey);
+        JavaSignatureProvider.update(sha512, data, offset, length, buffer);
+
+        final byte[] k = Ed25519Scalar.reduce(sha512.digest(), 0);
+
+        System.arraycopy(Ed25519Scalar.mulAdd(k, scalar, r), 0, signature, signatureOffset + 32, 32);
+
+        Arrays.fill(r, (byte) 0);
+
+        if (closed) {
+            // zeroed concurrently
+            throw new SigningError(SigningError.Code.Internal);
+        }
+    }
+
+    /**
+     * Returns 32 bytes public key derived from the private key.
+     *
+     * @return a public key
+     */
+    public byte[] publicKey() {
+        return publicKey.clone();
+    }
+
+    public boolean isClosed() {
+        return closed;
+    }
+
+    /**
+     * Zeroes the expanded key material. The signer cannot be used anymore.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        Arrays.fill(scalar, (byte) 0);
+        Arrays.fill(prefix, (byte) 0);
+    }
+}
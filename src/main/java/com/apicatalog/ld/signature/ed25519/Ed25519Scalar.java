@@ -0,0 +1,275 @@
+package com.apicatalog.ld.signature.ed25519;
+
+/**
+ * Arithmetic modulo the group order
+ * <code>L = 2^252 + 27742317777372353535851937790883648493</code>. Scalars are
+ * encoded as 32 little-endian bytes and computed in signed 21-bit limbs.
+ */
+final class Ed25519Scalar {
+
+    static final byte[] L = {
+            (byte) 0xed, (byte) 0xd3, (byte) 0xf5, (byte) 0x5c, (byte) 0x1a, (byte) 0x63, (byte) 0x12, (byte) 0x58,
+            (byte) 0xd6, (byte) 0x9c, (byte) 0xf7, (byte) 0xa2, (byte) 0xde, (byte) 0xf9, (byte) 0xde, (byte) 0x14,
+            0, 0, 0, 0, 0, 0, 0, 0,
+            0, 0, 0, 0, 0, 0, 0, (byte) 0x10
+    };
+
+    // L in 21-bit limbs, the last limb is 2^252
+    static final long[] L21 = {
+            1430509, 1626855, 1442968, 997804, 1960495, 683900,
+            0, 0, 0, 0, 0, 0, 1
+    };
+
+    // 2^252 mod L in signed 21-bit limbs
+    static final long[] K = { 666643, 470296, 654183, -997805, 136657, -683901 };
+
+    static final long MASK21 = (1L << 21) - 1;
+
+    private Ed25519Scalar() {
+        /* protected */
+    }
+
+    /**
+     * Reduces a 512-bit little-endian value, e.g. SHA-512 digest, modulo L.
+     *
+     * @param s      an input
+     * @param offset an offset of 64 bytes to reduce
+     * @return a canonical 32 bytes scalar
+     */
+    static byte[] reduce(byte[] s, int offset) {
+        final long[] limbs = new long[26];
+        load(limbs, s, offset, 64);
+        return reduce(limbs);
+    }
+
+    /**
+     * Computes <code>(a * b + c) mod L</code>.
+     */
+    static byte[] mulAdd(byte[] a, byte[] b, byte[] c) {
+        final long[] al = new long[13];
+        final long[] bl = new long[13];
+
+        load(al, a, 0, 32);
+        load(bl, b, 0, 32);
+
+        final long[] p = new long[26];
+
+        if (c != null) {
+            load(p, c, 0, 32);
+        }
+
+        for (int i = 0; i < 13; i++) {
+            for (int j = 0; j < 13; j++) {
+                p[i + j] += al[i] * bl[j];
+            }
+        }
+        return reduce(p);
+    }
+
+    static byte[] mul(byte[] a, byte[] b) {
+        return mulAdd(a, b, null);
+    }
+
+    static byte[] add(byte[] a, byte[] b) {
+        final long[] p = new long[26];
+        final long[] bl = new long[13];
+        load(p, a, 0, 32);
+        load(bl, b, 0, 32);
+        for (int i = 0; i < 13; i++) {
+            p[i] += bl[i];
+        }
+        return reduce(p);
+    }
+
+    /**
+     * Checks if the given 32 bytes scalar is less than L.
+     */
+    static boolean isCanonical(byte[] s, int offset) {
+        for (int i = 31; i >= 0; i--) {
+            final int a = s[offset + i] & 0xFF;
+            final int b = L[i] & 0xFF;
+            if (a < b) {
+                return true;
+            }
+            if (a > b) {
+                return false;
+            }
+        }
+        // equals to L
+        return false;
+    }
+
+    /**
+     * Computes width-w non-adjacent form of the given 32 bytes scalar. Non-zero
+     * digits are odd and <code>|d| &lt; 2^(w-1)</code>.
+     *
+     * @param s a scalar
+     * @param w a window width, 2 to 8
+     * @return 257 signed digits, the least significant first
+     */
+    static byte[] naf(byte[] s, int w) {
+
+        final long[] k = new long[5];
+        k[0] = Ed25519Field.load64(s, 0);
+        k[1] = Ed25519Field.load64(s, 8);
+        k[2] = Ed25519Field.load64(s, 16);
+        k[3] = Ed25519Field.load64(s, 24);
+
+        final int width = 1 << w;
+        final int half = width >>> 1;
+
+        final byte[] naf = new byte[257];
+
+        for (int i = 0; i < naf.length; i++) {
+
+            if ((k[0] & 1) != 0) {
+
+                int d = (int) (k[0] & (width - 1));
+
+                if (d >= half) {
+                    d -= width;
+                }
+
+                naf[i] = (byte) d;
+
+                // k -= d
+                if (d > 0) {
+                    long borrow = d;
+                    for (int j = 0; j < k.length && borrow != 0; j++) {
+                        final long v = k[j];
+                        k[j] = v - borrow;
+                        borrow = Long.compareUnsigned(v, borrow) < 0 ? 1 : 0;
+                    }
+
+                } else {
+                    long carry = -d;
+                    for (int j = 0; j < k.length && carry != 0; j++) {
+                        k[j] += carry;
+                        carry = Long.compareUnsigned(k[j], carry) < 0 ? 1 : 0;
+                    }
+                }
+            }
+
+            // k >>= 1
+            for (int j = 0; j < k.length - 1; j++) {
+                k[j] = (k[j] >>> 1) | (k[j + 1] << 63);
+            }
+            k[k.length - 1] >>>= 1;
+        }
+        return naf;
+    }
+
+    static void load(long[] limbs, byte[] s, int offset, int length) {
+        long acc = 0;
+        int bits = 0;
+        int k = 0;
+
+        for (int i = 0; i < length; i++) {
+            acc |= (s[offset + i] & 0xFFL) << bits;
+            bits += 8;
+            if (bits >= 21) {
+                limbs[k++] = acc & MASK21;
+                acc >>>= 21;
+                bits -= 21;
+            }
+        }
+        if (bits > 0) {
+            limbs[k] = acc;
+        }
+    }
+
+    /**
+     * Reduces the given limbs, arbitrary (not normalized) values up to 2^46 are
+     * accepted. The input is consumed. There are no branches on, nor
+     * iterations count depending on, the input value.
+     */
+    static byte[] reduce(final long[] s) {
+
+        final int n = s.length;
+
+        // normalize to signed 21-bit limbs, the top limb absorbs the rest
+        for (int i = 0; i < n - 1; i++) {
+            final long carry = (s[i] + (1L << 20)) >> 21;
+            s[i + 1] += carry;
+            s[i] -= carry << 21;
+        }
+
+        // fold limbs above 2^252 using 2^252 = K (mod L)
+        for (int top = n - 1; top >= 12; top--) {
+            final long v = s[top];
+
+            s[top] = 0;
+
+            for (int j = 0; j < K.length; j++) {
+                s[top - 12 + j] += v * K[j];
+            }
+
+            for (int i = top - 12; i < top - 1; i++) {
+                final long carry = (s[i] + (1L << 20)) >> 21;
+                s[i + 1] += carry;
+                s[i] -= carry << 21;
+            }
+        }
+
+        // fold the rest of the top limb, the first carry is below 2^48, so
+        // the next ones are -1, 0 or 1 and the fourth one is always 0
+        for (int round = 0; round < 4; round++) {
+            final long carry = (s[11] + (1L << 20)) >> 21;
+
+            s[11] -= carry << 21;
+
+            for (int j = 0; j < K.length; j++) {
+                s[j] += carry * K[j];
+            }
+
+            for (int i = 0; i < 11; i++) {
+                final long c = (s[i] + (1L << 20)) >> 21;
+                s[i + 1] += c;
+                s[i] -= c << 21;
+            }
+        }
+
+        // -2^252 < s < 2^252, make it canonical
+        final long[] r = new long[13];
+        System.arraycopy(s, 0, r, 0, 12);
+
+        normalize(r);
+
+        // add L if negative
+        final long negative = r[12] >> 63;
+
+        for (int i = 0; i < r.length; i++) {
+            r[i] += L21[i] & negative;
+        }
+        normalize(r);
+
+        return pack(r);
+    }
+
+    static void normalize(long[] r) {
+        for (int i = 0; i < r.length - 1; i++) {
+            final long carry = r[i] >> 21;
+            r[i + 1] += carry;
+            r[i] -= carry << 21;
+        }
+    }
+
+    static byte[] pack(long[] r) {
+        final byte[] out = new byte[32];
+
+        long acc = 0;
+        int bits = 0;
+        int k = 0;
+
+        for (int i = 0; i < r.length && k < out.length; i++) {
+            acc |= r[i] << bits;
+            bits += 21;
+            while (bits >= 8 && k < out.length) {
+                out[k++] = (byte) acc;
+                acc >>>= 8;
+                bits -= 8;
+            }
+        }
+        return out;
+    }
+}
@@ -1,21 +1,17 @@
 package com.apicatalog.ld.signature.ed25519;
 
 import java.net.URI;
+import java.nio.ByteBuffer;
 
 import com.apicatalog.jsonld.loader.DocumentLoader;
 import com.apicatalog.ld.DocumentError;
-import com.apicatalog.ld.node.LdNode;
+import com.apicatalog.ld.signature.CryptoSuite;
 import com.apicatalog.ld.signature.VerificationMethod;
+import com.apicatalog.ld.signature.algorithm.SignatureAlgorithm;
 import com.apicatalog.ld.signature.key.KeyPair;
-import com.apicatalog.multibase.Multibase;
 import com.apicatalog.vc.VcVocab;
 import com.apicatalog.vc.integrity.DataIntegrityVocab;
-import com.apicatalog.vc.issuer.Issuer;
-import com.apicatalog.vc.method.MethodAdapter;
 import com.apicatalog.vc.proof.Proof;
-import com.apicatalog.vc.proof.ProofValue;
-import com.apicatalog.vc.solid.SolidIssuer;
-import com.apicatalog.vc.solid.SolidProofValue;
 import com.apicatalog.vc.suite.SignatureSuite;
 
 import jakarta.json.JsonObject;
@@ -26,7 +22,102 @@ public final class Ed25519Signature2020 implements SignatureSuite {
 
     public static final String CONTEXT = "https://w3id.org/security/suites/ed25519-2020/v1";
 
-    protected static final MethodAdapter METHOD_ADAPTER = new Ed25519KeyAdapter();
+    /**
+     * A system property selecting a default signature algorithm implementation,
+     * <code>native</code> (default) uses JCA, <code>java</code> uses
+     * {@link JavaSignatureProvider}.
+     */
+    public static final String PROVIDER_PROPERTY = "com.apicatalog.ld.signature.ed25519.provider";
+
+    protected static final Ed25519KeyAdapter METHOD_ADAPTER = new Ed25519KeyAdapter();
+
+    protected final CryptoSuite crypto;
+
+    protected final BoundedCache<ByteBuffer, byte[]> proofHashes;
+
+    protected final BoundedCache<ByteBuffer, Boolean> verified;
+
+    protected final Ed25519KeyAdapter methodAdapter;
+
+    protected final MetricsListener metrics;
+
+    // the crypto suite reporting to the metrics listener, if any
+    protected final CryptoSuite measured;
+
+    public Ed25519Signature2020() {
+        this(Ed25519Signature2020Proof.CRYPTO, null, null, null, MetricsListener.NOOP);
+    }
+
+    /**
+     * Creates a new suite instance verifying signatures with the given
+     * algorithm, e.g. {@link Ed25519Signature2020Provider} with a custom public
+     * key cache.
+     *
+     * @param signer a signature algorithm
+     */
+    public Ed25519Signature2020(SignatureAlgorithm signer) {
+        this(Ed25519Signature2020Proof.createCryptoSuite(signer), null, null, null, MetricsListener.NOOP);
+    }
+
+    protected Ed25519Signature2020(
+            CryptoSuite crypto,
+            BoundedCache<ByteBuffer, byte[]> proofHashes,
+            BoundedCache<ByteBuffer, Boolean> verified,
+            BoundedCache<Ed25519KeyAdapter.MethodKey, VerificationMethod> methods,
+            MetricsListener metrics) {
+        this.crypto = crypto;
+        this.proofHashes = proofHashes;
+        this.verified = verified;
+        this.methodAdapter = methods != null ? new Ed25519KeyAdapter(methods) : METHOD_ADAPTER;
+        this.metrics = metrics != null ? metrics : MetricsListener.NOOP;
+        this.measured = MeasuredCryptoSuite.of(crypto, this.metrics);
+    }
+
+    /**
+     * Returns a new builder of a suite instance with caches or a metrics
+     * listener. A suite configuration cannot be changed once built, so an
+     * instance can be shared by concurrent verifiers and issuers.
+     *
+     * @return a new builder
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * A cache of canonicalized and hashed proof options, <code>null</code> if
+     * disabled.
+     *
+     * @return a cache or <code>null</code>
+     * @see Builder#proofHashCache(BoundedCache)
+     */
+    public BoundedCache<ByteBuffer, byte[]> proofHashCache() {
+        return proofHashes;
+    }
+
+    /**
+     * A cache of successful verifications, <code>null</code> if disabled.
+     *
+     * @return a cache or <code>null</code>
+     * @see Builder#verificationCache(BoundedCache)
+     */
+    public BoundedCache<ByteBuffer, Boolean> verificationCache() {
+        return verified;
+    }
+
+    /**
+     * A cache of decoded verification methods, <code>null</code> if disabled.
+     *
+     * @return a cache or <code>null</code>
+     * @see Builder#methodCache(BoundedCache)
+     */
+    public BoundedCache<Ed25519KeyAdapter.MethodKey, VerificationMethod> methodCache() {
+        return methodAdapter.cache();
+    }
+
+    public MetricsListener metrics() {
+        return metrics;
+    }
 
     @Override
     public boolean isSupported(String proofType, JsonObject expandedProof) {
@@ -39,36 +130,76 @@ public final class Ed25519Signature2020 implements SignatureSuite {
             throw new IllegalArgumentException("The 'document' parameter must not be null.");
         }
 
-        final LdNode node = LdNode.of(document);
-
-        final Ed25519Signature2020Proof proof = new Ed25519Signature2020Proof(document);
+        final Ed25519Events.ProofParse event = new Ed25519Events.ProofParse();
 
-        proof.id = node.id();
+        if (!event.isEnabled()) {
+            return read(document);
+        }
 
-        proof.created = node.scalar(DataIntegrityVocab.CREATED).xsdDateTime();
+        event.begin();
+        try {
+            final Ed25519Signature2020Proof proof = read(document);
+            event.proofId = proof.id != null ? proof.id.toString() : null;
+            event.outcome = Ed25519Events.OK;
+            return proof;
 
-        proof.purpose = node.node(DataIntegrityVocab.PURPOSE).id();
+        } catch (DocumentError | RuntimeException e) {
+            event.outcome = Ed25519Events.outcome(e);
+            throw e;
 
-        proof.domain = node.scalar(DataIntegrityVocab.DOMAIN).string();
+        } finally {
+            event.commit();
+        }
+    }
 
-        proof.challenge = node.scalar(DataIntegrityVocab.CHALLENGE).string();
+    protected Ed25519Signature2020Proof read(JsonObject document) throws DocumentError {
 
-        proof.method = node.node(DataIntegrityVocab.VERIFICATION_METHOD).map(METHOD_ADAPTER);
+        final Ed25519Signature2020Proof proof = new Ed25519Signature2020Proof(document, measured, proofHashes, verified, methodAdapter, metrics);
 
-        proof.value = getProofValue(node.scalar(DataIntegrityVocab.PROOF_VALUE).multibase(Multibase.BASE_58_BTC));
+        // ids are needed to order proofs, other fields are read on demand
+        proof.id = proof.node().id();
 
-        proof.previousProof = node.node(DataIntegrityVocab.PREVIOUS_PROOF).id();
+        proof.previousProof = proof.node().node(DataIntegrityVocab.PREVIOUS_PROOF).id();
 
         return proof;
     }
 
-    protected ProofValue getProofValue(byte[] proofValue) {
-        return proofValue != null ? new SolidProofValue(proofValue) : null;
+    /**
+     * Creates a new issuer. The private key is expanded once and reused by all
+     * signatures created by the issuer.
+     *
+     * @param keyPair a key pair to sign with
+     * @return a new {@link Ed25519Signature2020Issuer} instance
+     */
+    @Override
+    public Ed25519Signature2020Issuer createIssuer(KeyPair keyPair) {
+        return new Ed25519Signature2020Issuer(this, keyPair, Base58Btc.MULTIBASE);
     }
 
-    @Override
-    public Issuer createIssuer(KeyPair keyPair) {
-        return new SolidIssuer(this, keyPair, Multibase.BASE_58_BTC);
+    /**
+     * Creates a new signature algorithm instance selected by
+     * {@link #PROVIDER_PROPERTY} system property.
+     *
+     * @return a new signature algorithm instance
+     */
+    public static SignatureAlgorithm createProvider() {
+        return createProvider(System.getProperty(PROVIDER_PROPERTY, "native"));
+    }
+
+    /**
+     * Creates a new signature algorithm instance.
+     *
+     * @param name <code>native</code> or <code>java</code>
+     * @return a new signature algorithm instance
+     */
+    public static SignatureAlgorithm createProvider(String name) {
+        if ("native".equalsIgnoreCase(name)) {
+            return new Ed25519Signature2020Provider();
+        }
+        if ("java".equalsIgnoreCase(name)) {
+            return new JavaSignatureProvider();
+        }
+        throw new IllegalArgumentException("Unknown Ed25519 provider [" + name + "], expected 'native' or 'java'.");
     }
 
     public static Ed25519Signature2020ProofDraft createDraft(VerificationMethod verificationMethod, URI purpose) {
@@ -78,4 +209,110 @@ public final class Ed25519Signature2020 implements SignatureSuite {
     public static Ed25519Signature2020ProofDraft createDraft(URI verificationMethod, URI purpose) {
         return new Ed25519Signature2020ProofDraft(verificationMethod, purpose);
     }
+
+    /**
+     * Configures a new {@link Ed25519Signature2020} instance.
+     */
+    public static final class Builder {
+
+        protected SignatureAlgorithm signer;
+
+        protected BoundedCache<ByteBuffer, byte[]> proofHashes;
+
+        protected BoundedCache<ByteBuffer, Boolean> verified;
+
+        protected BoundedCache<Ed25519KeyAdapter.MethodKey, VerificationMethod> methods;
+
+        protected MetricsListener metrics;
+
+        protected Builder() {
+            this.signer = null;
+            this.proofHashes = null;
+            this.verified = null;
+            this.methods = null;
+            this.metrics = MetricsListener.NOOP;
+        }
+
+        /**
+         * Sets a signature algorithm, e.g. {@link Ed25519Signature2020Provider}
+         * with a custom public key cache.
+         *
+         * @param signer a signature algorithm, <code>null</code> selects the
+         *               default one, see {@link #PROVIDER_PROPERTY}
+         * @return the builder instance
+         */
+        public Builder signer(SignatureAlgorithm signer) {
+            this.signer = signer;
+            return this;
+        }
+
+        /**
+         * Sets a cache of canonicalized and hashed proof options. Proofs sharing
+         * the same options, e.g. the same proof verified repeatedly, skip the
+         * proof canonicalization. Disabled by default.
+         *
+         * @param proofHashes a cache keyed by a stable hash of an unsigned
+         *                    expanded proof, <code>null</code> disables caching
+         * @return the builder instance
+         */
+        public Builder proofHashCache(BoundedCache<ByteBuffer, byte[]> proofHashes) {
+            this.proofHashes = proofHashes;
+            return this;
+        }
+
+        /**
+         * Sets a cache of successful verifications. A proof already verified
+         * against the same expanded document, proof options, and public key is
+         * not verified again. Proof options and runtime parameters, e.g. domain
+         * and challenge, are still validated. Use a cache with a time-to-live to
+         * bound how long a result is trusted.
+         *
+         * @param verified a cache keyed by a stable hash of the verified input,
+         *                 <code>null</code> disables caching
+         * @return the builder instance
+         */
+        public Builder verificationCache(BoundedCache<ByteBuffer, Boolean> verified) {
+            this.verified = verified;
+            return this;
+        }
+
+        /**
+         * Sets a cache of decoded verification methods. Proofs referencing a
+         * known verification key, embedded or resolved, skip the key decoding.
+         * Disabled by default.
+         *
+         * @param methods a cache keyed by a method id, controller, and encoded
+         *                public key, <code>null</code> disables caching
+         * @return the builder instance
+         */
+        public Builder methodCache(BoundedCache<Ed25519KeyAdapter.MethodKey, VerificationMethod> methods) {
+            this.methods = methods;
+            return this;
+        }
+
+        /**
+         * Sets a listener receiving durations of canonicalization, hashing,
+         * signing and verification, and hits and misses of the suite caches,
+         * e.g. {@link MetricsRecorder}.
+         *
+         * @param metrics a listener, <code>null</code> or
+         *                {@link MetricsListener#NOOP} disables instrumentation
+         * @return the builder instance
+         */
+        public Builder metrics(MetricsListener metrics) {
+            this.metrics = metrics;
+            return this;
+        }
+
+        public Ed25519Signature2020 build() {
+            return new Ed25519Signature2020(
+                    signer != null
+                            ? Ed25519Signature2020Proof.createCryptoSuite(signer)
+                            : Ed25519Signature2020Proof.CRYPTO,
+                    proofHashes,
+                    verified,
+                    methods,
+                    metrics);
+        }
+    }
 }
\ No newline at end of file
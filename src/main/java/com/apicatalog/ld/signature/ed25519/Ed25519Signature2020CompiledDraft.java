@@ -0,0 +1,213 @@
+package com.apicatalog.ld.signature.ed25519;
+
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Collection;
+
+import com.apicatalog.ld.node.LdNodeBuilder;
+import com.apicatalog.ld.signature.CryptoSuite;
+import com.apicatalog.ld.signature.LinkedDataSuiteError;
+import com.apicatalog.ld.signature.SigningError;
+import com.apicatalog.vc.ModelVersion;
+import com.apicatalog.vc.VcVocab;
+import com.apicatalog.vc.issuer.ProofDraft;
+
+import jakarta.json.JsonObject;
+
+/**
+ * A proof draft with precomputed canonical proof options. Canonical N-Quads are
+ * computed once, the <code>created</code> literal is patched per issued proof.
+ * If the proof options contain more than one blank node, e.g. an embedded
+ * verification method without an id, or a supplementary character, the proof
+ * options are canonicalized each time.
+ * <p>
+ * An instance is immutable and can be shared by concurrent issuers, see
+ * {@link Ed25519Signature2020ProofDraft#compile()}.
+ * </p>
+ */
+public final class Ed25519Signature2020CompiledDraft extends ProofDraft {
+
+    static final Instant PLACEHOLDER = Instant.EPOCH;
+
+    protected final Ed25519Signature2020ProofDraft draft;
+
+    protected final Instant created;
+
+    // sorted canonical N-Quads, null if the template cannot be used
+    final String[] template;
+
+    // an index of the created statement
+    final int index;
+
+    Ed25519Signature2020CompiledDraft(Ed25519Signature2020ProofDraft draft, Instant created, String[] template, int index) {
+        super(draft.cryptoSuite(), draft.verificationMethod());
+        this.draft = draft;
+        this.created = created;
+        this.template = template;
+        this.index = index;
+    }
+
+    static Ed25519Signature2020CompiledDraft compile(Ed25519Signature2020ProofDraft draft) throws SigningError {
+
+        final CryptoSuite crypto = draft.cryptoSuite();
+
+        final String nquads;
+
+        try {
+            nquads = new String(
+                    crypto.canonicalize(draft.unsigned(new LdNodeBuilder(), PLACEHOLDER).build()),
+                    StandardCharsets.UTF_8);
+
+        } catch (LinkedDataSuiteError e) {
+            throw new SigningError(SigningError.Code.Internal, e);
+        }
+
+        final String[] lines = nquads.split("\n");
+
+        final String literal = literal(PLACEHOLDER);
+
+        int index = -1;
+
+        for (int i = 0; i < lines.length; i++) {
+            if (lines[i].contains(literal)) {
+                if (index != -1) {
+                    index = -1;
+                    break;
+                }
+                index = i;
+            }
+        }
+
+        // a template can be used only if a blank node label does not depend on
+        // the created literal and statements are sorted, the code point order
+        // is the UTF-16 order used by the canonicalizer if there is no
+        // supplementary character
+        if (index == -1
+                || blankNodes(nquads) > 1
+                || nquads.length() != nquads.codePointCount(0, nquads.length())
+                || !isSorted(lines)) {
+            return new Ed25519Signature2020CompiledDraft(draft, draft.created, null, -1);
+        }
+
+        return new Ed25519Signature2020CompiledDraft(draft, draft.created, lines, index);
+    }
+
+    /**
+     * Returns a new draft instance with the given creation time.
+     *
+     * @param created a creation time
+     * @return a new draft instance sharing the precomputed proof options
+     */
+    public Ed25519Signature2020CompiledDraft created(Instant created) {
+        return new Ed25519Signature2020CompiledDraft(draft, created, template, index);
+    }
+
+    public Instant created() {
+        return created;
+    }
+
+    /**
+     * Returns <code>true</code> if canonical proof options are precomputed.
+     *
+     * @return <code>true</code> if the proof options are not canonicalized per
+     *         issued proof
+     */
+    public boolean isPrecomputed() {
+        return template != null;
+    }
+
+    /**
+     * Not supported, a compiled draft is immutable.
+     */
+    @Override
+    public void id(URI id) {
+        throw new UnsupportedOperationException("A compiled draft is immutable, set an id before compilation.");
+    }
+
+    /**
+     * Not supported, a compiled draft is immutable.
+     */
+    @Override
+    public void previousProof(URI previousProof) {
+        throw new UnsupportedOperationException("A compiled draft is immutable, set a previous proof before compilation.");
+    }
+
+    @Override
+    public JsonObject unsigned() {
+        return draft.unsigned(new LdNodeBuilder(), created != null ? created : Instant.now()).build();
+    }
+
+    @Override
+    public Collection<String> context(ModelVersion model) {
+        return draft.context(model);
+    }
+
+    /**
+     * Computes a hash of the canonicalized proof options.
+     */
+    byte[] proofHash(CryptoSuite crypto) throws LinkedDataSuiteError {
+
+        if (template == null || created == null) {
+            return crypto.digest(crypto.canonicalize(unsigned()));
+        }
+
+        final String[] lines = template.clone();
+
+        lines[index] = lines[index].replace(literal(PLACEHOLDER), literal(created));
+
+        Arrays.sort(lines, Ed25519Signature2020CompiledDraft::compare);
+
+        final StringBuilder nquads = new StringBuilder();
+        for (final String line : lines) {
+            nquads.append(line).append('\n');
+        }
+
+        return crypto.digest(nquads.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    static String literal(Instant created) {
+        return "\"" + created.toString() + "\"^^<" + VcVocab.XSD_DATETIME.uri() + ">";
+    }
+
+    static int blankNodes(String nquads) {
+        return (int) Arrays.stream(nquads.split("[\\s]"))
+                .filter(term -> term.startsWith("_:"))
+                .distinct()
+                .count();
+    }
+
+    static boolean isSorted(String[] lines) {
+        for (int i = 1; i < lines.length; i++) {
+            if (compare(lines[i - 1], lines[i]) > 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Compares N-Quads statements in code point order, i.e. the order of their
+     * UTF-8 encoded bytes.
+     */
+    static int compare(String a, String b) {
+
+        final int length = Math.min(a.length(), b.length());
+
+        for (int i = 0; i < length; i++) {
+
+            final char ca = a.charAt(i);
+            final char cb = b.charAt(i);
+
+            if (ca != cb) {
+                // a surrogate encodes a code point above any other char
+                if (Character.isSurrogate(ca) != Character.isSurrogate(cb)) {
+                    return Character.isSurrogate(ca) ? 1 : -1;
+                }
+                return ca - cb;
+            }
+        }
+        return a.length() - b.length();
+    }
+}
@@ -0,0 +1,109 @@
+package com.apicatalog.ld.signature.ed25519;
+
+import java.time.Instant;
+
+import com.apicatalog.jsonld.loader.DocumentLoader;
+import com.apicatalog.ld.DocumentError;
+import com.apicatalog.ld.signature.CryptoSuite;
+import com.apicatalog.ld.signature.LinkedDataSuiteError;
+import com.apicatalog.ld.signature.SigningError;
+import com.apicatalog.ld.signature.key.KeyPair;
+import com.apicatalog.multibase.Multibase;
+import com.apicatalog.vc.ModelVersion;
+import com.apicatalog.vc.issuer.AbstractIssuer;
+import com.apicatalog.vc.issuer.ProofDraft;
+import com.apicatalog.vc.processor.ExpandedVerifiable;
+import com.apicatalog.vc.suite.SignatureSuite;
+
+import jakarta.json.JsonArray;
+import jakarta.json.JsonObject;
+
+/**
+ * An issuer signing with a {@link Ed25519PreparedSigner}, i.e. the private key
+ * is expanded only once per issuer instance. A suite created with a custom
+ * signature algorithm, see
+ * {@link Ed25519Signature2020#Ed25519Signature2020(com.apicatalog.ld.signature.algorithm.SignatureAlgorithm)},
+ * signs with that algorithm instead. Call {@link #close()} to zero the
+ * expanded key material when the issuer is not needed anymore.
+ */
+public class Ed25519Signature2020Issuer extends AbstractIssuer implements AutoCloseable {
+
+    protected final Ed25519PreparedSigner signer;
+
+    protected final MetricsListener metrics;
+
+    public Ed25519Signature2020Issuer(SignatureSuite suite, KeyPair keyPair, Multibase proofValueBase) {
+        super(suite, keyPair, proofValueBase);
+        this.signer = suite instanceof Ed25519Signature2020 ed25519
+                && ed25519.crypto == Ed25519Signature2020Proof.CRYPTO
+                && keyPair.privateKey() != null
+                && keyPair.privateKey().length == 32
+                        ? new Ed25519PreparedSigner(keyPair.privateKey())
+                        : null;
+        this.metrics = suite instanceof Ed25519Signature2020 ed25519
+                ? ed25519.metrics()
+                : MetricsListener.NOOP;
+    }
+
+    /**
+     * Fixes the creation time of a {@link Ed25519Signature2020CompiledDraft}
+     * without <code>created</code>, so the signed and the attached proof
+     * options are the same.
+     */
+    @Override
+    protected ExpandedVerifiable sign(ModelVersion model, JsonArray context, JsonObject document, ProofDraft draft, DocumentLoader loader) throws SigningError, DocumentError {
+        if (draft instanceof Ed25519Signature2020CompiledDraft compiled && compiled.created() == null) {
+            return super.sign(model, context, document, compiled.created(Instant.now()), loader);
+        }
+        return super.sign(model, context, document, draft, loader);
+    }
+
+    @Override
+    protected byte[] sign(JsonArray context, JsonObject document, ProofDraft draft) throws SigningError {
+
+        // a draft created by the static factory carries the default algorithm
+        final CryptoSuite crypto = MeasuredCryptoSuite.of(
+                suite instanceof Ed25519Signature2020 ed25519 ? ed25519.crypto : draft.cryptoSuite(),
+                metrics);
+
+        try {
+            final byte[] proofHash = draft instanceof Ed25519Signature2020CompiledDraft compiled
+                    ? compiled.proofHash(crypto)
+                    : crypto.digest(crypto.canonicalize(draft.unsigned()));
+            final byte[] documentHash = crypto.digest(crypto.canonicalize(document));
+
+            final byte[] data = new byte[proofHash.length + documentHash.length];
+            System.arraycopy(proofHash, 0, data, 0, proofHash.length);
+            System.arraycopy(documentHash, 0, data, proofHash.length, documentHash.length);
+
+            if (signer == null) {
+                return crypto.sign(keyPair.privateKey(), data);
+            }
+
+            if (metrics == MetricsListener.NOOP) {
+                return signer.sign(data);
+            }
+
+            final long start = System.nanoTime();
+            try {
+                return signer.sign(data);
+
+            } finally {
+                metrics.onStage(MetricsListener.Stage.SIGNING, System.nanoTime() - start, data.length);
+            }
+
+        } catch (LinkedDataSuiteError e) {
+            throw new SigningError(SigningError.Code.Internal, e);
+        }
+    }
+
+    /**
+     * Zeroes the expanded private key, the issuer cannot sign anymore.
+     */
+    @Override
+    public void close() {
+        if (signer != null) {
+            signer.close();
+        }
+    }
+}
@@ -1,15 +1,24 @@
 package com.apicatalog.ld.signature.ed25519;
 
 import java.net.URI;
+import java.nio.ByteBuffer;
 import java.time.Instant;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Supplier;
 
 import com.apicatalog.ld.DocumentError;
 import com.apicatalog.ld.DocumentError.ErrorType;
 import com.apicatalog.ld.Term;
+import com.apicatalog.ld.node.LdNode;
 import com.apicatalog.ld.signature.CryptoSuite;
+import com.apicatalog.ld.signature.LinkedDataSuiteError;
 import com.apicatalog.ld.signature.VerificationError;
+import com.apicatalog.ld.signature.VerificationError.Code;
 import com.apicatalog.ld.signature.VerificationMethod;
+import com.apicatalog.ld.signature.algorithm.SignatureAlgorithm;
+import com.apicatalog.ld.signature.ed25519.MetricsListener.Cache;
 import com.apicatalog.ld.signature.key.VerificationKey;
 import com.apicatalog.ld.signature.primitive.MessageDigest;
 import com.apicatalog.ld.signature.primitive.Urdna2015;
@@ -19,16 +28,19 @@ import com.apicatalog.vc.proof.Proof;
 import com.apicatalog.vc.proof.ProofValue;
 import com.apicatalog.vc.solid.SolidProofValue;
 
-import jakarta.json.Json;
 import jakarta.json.JsonObject;
 import jakarta.json.JsonStructure;
 
+/**
+ * An Ed25519Signature2020 proof. Proof options, a verification method and a
+ * proof value are read from the expanded proof on demand and memoized, i.e. a
+ * key and a signature are not decoded unless used. {@link #validate(Map)}
+ * reads all of them and throws a {@link DocumentError} if any is malformed,
+ * the accessors return <code>null</code> instead.
+ */
 public final class Ed25519Signature2020Proof implements Proof, MethodAdapter {
 
-    static final CryptoSuite CRYPTO = new CryptoSuite(
-            new Urdna2015(),
-            new MessageDigest("SHA-256"),
-            new Ed25519Signature2020Provider());
+    static final CryptoSuite CRYPTO = createCryptoSuite(Ed25519Signature2020.createProvider());
 
     protected URI id;
     protected URI purpose;
@@ -41,8 +53,57 @@ public final class Ed25519Signature2020Proof implements Proof, MethodAdapter {
 
     final JsonObject expanded;
 
+    final CryptoSuite crypto;
+
+    // an optional cache of proof options hashes
+    final BoundedCache<ByteBuffer, byte[]> proofHashes;
+
+    // an optional cache of successful verifications
+    final BoundedCache<ByteBuffer, Boolean> verified;
+
+    // reads resolved verification methods
+    final MethodAdapter methodAdapter;
+
+    // receives cache hits and misses
+    final MetricsListener metrics;
+
+    // lazily created view of the expanded proof without a proof value
+    JsonObject unsigned;
+
+    // lazily read fields
+    LdNode node;
+    boolean optionsRead;
+    boolean methodRead;
+    boolean valueRead;
+
     Ed25519Signature2020Proof(JsonObject expandedProof) {
+        this(expandedProof, CRYPTO);
+    }
+
+    Ed25519Signature2020Proof(JsonObject expandedProof, CryptoSuite crypto) {
+        this(expandedProof, crypto, null, null, Ed25519Signature2020.METHOD_ADAPTER, MetricsListener.NOOP);
+    }
+
+    Ed25519Signature2020Proof(
+            JsonObject expandedProof,
+            CryptoSuite crypto,
+            BoundedCache<ByteBuffer, byte[]> proofHashes,
+            BoundedCache<ByteBuffer, Boolean> verified,
+            MethodAdapter methodAdapter,
+            MetricsListener metrics) {
         this.expanded = expandedProof;
+        this.crypto = crypto;
+        this.proofHashes = proofHashes;
+        this.verified = verified;
+        this.methodAdapter = methodAdapter;
+        this.metrics = metrics;
+    }
+
+    static CryptoSuite createCryptoSuite(SignatureAlgorithm signer) {
+        return new CryptoSuite(
+                new Urdna2015(),
+                new MessageDigest("SHA-256"),
+                signer);
     }
 
     @Override
@@ -57,11 +118,17 @@ public final class Ed25519Signature2020Proof implements Proof, MethodAdapter {
 
     @Override
     public VerificationMethod read(JsonObject document) throws DocumentError {
-        return Ed25519Signature2020.METHOD_ADAPTER.read(document);
+        return methodAdapter.read(document);
     }
 
     @Override
     public void validate(Map<String, Object> params) throws DocumentError {
+
+        readOptions();
+
+        final VerificationMethod method = readMethod();
+        final ProofValue value = readValue();
+
         if (created == null) {
             throw new DocumentError(ErrorType.Missing, "Created");
         }
@@ -101,11 +168,86 @@ public final class Ed25519Signature2020Proof implements Proof, MethodAdapter {
 
     @Override
     public VerificationMethod method() {
-        return method;
+        try {
+            return readMethod();
+
+        } catch (DocumentError e) {
+            return null;
+        }
     }
 
     @Override
     public ProofValue signature() {
+        try {
+            return readValue();
+
+        } catch (DocumentError e) {
+            return null;
+        }
+    }
+
+    /**
+     * Returns a creation date, or <code>null</code> if missing or malformed.
+     *
+     * @return a creation date
+     */
+    public Instant created() {
+        try {
+            readOptions();
+            return created;
+
+        } catch (DocumentError e) {
+            return null;
+        }
+    }
+
+    /**
+     * Returns a proof purpose, or <code>null</code> if missing or malformed.
+     *
+     * @return a proof purpose
+     */
+    public URI purpose() {
+        try {
+            readOptions();
+            return purpose;
+
+        } catch (DocumentError e) {
+            return null;
+        }
+    }
+
+    protected LdNode node() {
+        if (node == null) {
+            node = LdNode.of(expanded);
+        }
+        return node;
+    }
+
+    protected void readOptions() throws DocumentError {
+        if (!optionsRead) {
+            final LdNode node = node();
+            created = node.scalar(DataIntegrityVocab.CREATED).xsdDateTime();
+            purpose = node.node(DataIntegrityVocab.PURPOSE).id();
+            domain = node.scalar(DataIntegrityVocab.DOMAIN).string();
+            challenge = node.scalar(DataIntegrityVocab.CHALLENGE).string();
+            optionsRead = true;
+        }
+    }
+
+    protected VerificationMethod readMethod() throws DocumentError {
+        if (!methodRead) {
+            method = node().node(DataIntegrityVocab.VERIFICATION_METHOD).map(methodAdapter);
+            methodRead = true;
+        }
+        return method;
+    }
+
+    protected ProofValue readValue() throws DocumentError {
+        if (!valueRead) {
+            final byte[] proofValue = node().scalar(DataIntegrityVocab.PROOF_VALUE).multibase(Base58Btc.MULTIBASE);
+            value = proofValue != null ? new SolidProofValue(proofValue) : null;
+            valueRead = true;
+        }
         return value;
     }
 
@@ -121,15 +263,181 @@ public final class Ed25519Signature2020Proof implements Proof, MethodAdapter {
 
     @Override
     public CryptoSuite cryptoSuite() {
-        return CRYPTO;
+        return crypto;
     }
 
     @Override
     public void verify(JsonStructure context, JsonObject data, VerificationKey method) throws VerificationError, DocumentError {
-        value.verify(CRYPTO, context, data, unsigned(), method.publicKey());
+        verify(context, data, method, null);
+    }
+
+    /**
+     * Verifies the proof, a digest of the canonicalized document is taken from
+     * the given supplier if present. Allows to canonicalize a document once for
+     * all proofs of a proof set, the digest is requested after the proof passes
+     * {@link #precheck(byte[], byte[])}.
+     */
+    void verify(JsonStructure context, JsonObject data, VerificationKey method, Supplier<CompletableFuture<byte[]>> documentHash) throws VerificationError, DocumentError {
+
+        final Ed25519Events.ProofVerify event = new Ed25519Events.ProofVerify();
+
+        if (!event.isEnabled()) {
+            verifyCached(context, data, method, documentHash);
+            return;
+        }
+
+        event.begin();
+        event.proofId = id != null ? id.toString() : null;
+        event.method = method.id() != null ? method.id().toString() : null;
+        try {
+            event.cached = verifyCached(context, data, method, documentHash);
+            event.outcome = Ed25519Events.OK;
+
+        } catch (VerificationError | DocumentError | RuntimeException e) {
+            event.outcome = Ed25519Events.outcome(e);
+            throw e;
+
+        } finally {
+            event.commit();
+        }
+    }
+
+    /**
+     * Verifies the proof unless it has been verified before.
+     *
+     * @return <code>true</code> if the proof has been verified before
+     */
+    boolean verifyCached(JsonStructure context, JsonObject data, VerificationKey method, Supplier<CompletableFuture<byte[]>> documentHash) throws VerificationError, DocumentError {
+
+        precheck(method.publicKey(), ((SolidProofValue) readValue()).toByteArray());
+
+        if (verified == null) {
+            verifySignature(context, data, method, documentHash);
+            return false;
+        }
+
+        final ByteBuffer key = ByteBuffer.wrap(verificationKey(data, method.publicKey()));
+
+        if (verified.get(key) != null) {
+            metrics.onCache(Cache.VERIFICATION, true);
+            return true;
+        }
+
+        metrics.onCache(Cache.VERIFICATION, false);
+
+        verifySignature(context, data, method, documentHash);
+
+        verified.put(key, Boolean.TRUE);
+
+        return false;
     }
 
+    /**
+     * Rejects a malformed public key or signature before a document is
+     * canonicalized, i.e. a key that is not 32 bytes encoding a curve point,
+     * or a signature with S not reduced modulo the group order.
+     */
+    static void precheck(final byte[] publicKey, final byte[] signature) throws VerificationError, DocumentError {
+
+        if (publicKey == null || publicKey.length != 32) {
+            throw new DocumentError(ErrorType.Invalid, "PublicKeyLength");
+        }
+        if (signature == null || signature.length != 64) {
+            throw new DocumentError(ErrorType.Invalid, "ProofValue");
+        }
+        if (!Ed25519Scalar.isCanonical(signature, 32) || Ed25519Point.decode(publicKey, 0) == null) {
+            throw new VerificationError(Code.InvalidSignature);
+        }
+    }
+
+    protected void verifySignature(JsonStructure context, JsonObject data, VerificationKey method, Supplier<CompletableFuture<byte[]>> documentHash) throws VerificationError, DocumentError {
+
+        if (proofHashes == null && documentHash == null) {
+            readValue().verify(crypto, context, data, unsigned(), method.publicKey());
+            return;
+        }
+
+        try {
+            final byte[] proofHash = proofHash();
+            final byte[] dataHash = documentHash != null
+                    ? join(documentHash.get())
+                    : crypto.digest(crypto.canonicalize(data));
+
+            final byte[] signed = new byte[proofHash.length + dataHash.length];
+            System.arraycopy(proofHash, 0, signed, 0, proofHash.length);
+            System.arraycopy(dataHash, 0, signed, proofHash.length, dataHash.length);
+
+            crypto.verify(method.publicKey(), ((SolidProofValue) readValue()).toByteArray(), signed);
+
+        } catch (LinkedDataSuiteError e) {
+            throw new VerificationError(Code.InvalidSignature, e);
+        }
+    }
+
+    static byte[] join(CompletableFuture<byte[]> hash) throws LinkedDataSuiteError {
+        try {
+            return hash.join();
+
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof LinkedDataSuiteError) {
+                throw (LinkedDataSuiteError) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Returns a stable hash of the expanded document, the unsigned proof
+     * including domain and challenge, the proof value, and the public key.
+     */
+    protected byte[] verificationKey(JsonObject data, byte[] publicKey) {
+
+        final java.security.MessageDigest digest = JsonDigest.newSha256();
+
+        JsonDigest.update(digest, data);
+        JsonDigest.update(digest, unsigned());
+
+        digest.update(((SolidProofValue) signature()).toByteArray());
+        digest.update(publicKey);
+
+        return digest.digest();
+    }
+
+    /**
+     * Returns a digest of the canonicalized unsigned proof, looked up in the
+     * cache, if present, by a stable hash of the unsigned proof.
+     */
+    protected byte[] proofHash() throws LinkedDataSuiteError {
+
+        final JsonObject unsigned = unsigned();
+
+        if (proofHashes == null) {
+            return crypto.digest(crypto.canonicalize(unsigned));
+        }
+
+        final ByteBuffer key = ByteBuffer.wrap(JsonDigest.sha256(unsigned));
+
+        byte[] hash = proofHashes.get(key);
+
+        metrics.onCache(Cache.PROOF_HASH, hash != null);
+
+        if (hash == null) {
+            hash = crypto.digest(crypto.canonicalize(unsigned));
+            proofHashes.put(key, hash);
+        }
+        return hash;
+    }
+
+    /**
+     * Returns the expanded proof without a proof value. The result is a memoized
+     * view, the expanded proof is not copied.
+     *
+     * @return the unsigned proof
+     */
     protected JsonObject unsigned() {
-        return Json.createObjectBuilder(expanded).remove(DataIntegrityVocab.PROOF_VALUE.uri()).build();
+        if (unsigned == null) {
+            unsigned = new FilteredJsonObject(expanded, DataIntegrityVocab.PROOF_VALUE.uri());
+        }
+        return unsigned;
     }
 }
\ No newline at end of file
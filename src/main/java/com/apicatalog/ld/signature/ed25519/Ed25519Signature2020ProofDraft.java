@@ -6,6 +6,7 @@ import java.util.Arrays;
 import java.util.Collection;
 
 import com.apicatalog.ld.node.LdNodeBuilder;
+import com.apicatalog.ld.signature.SigningError;
 import com.apicatalog.ld.signature.VerificationMethod;
 import com.apicatalog.vc.ModelVersion;
 import com.apicatalog.vc.integrity.DataIntegrityVocab;
@@ -69,11 +70,15 @@ public final class Ed25519Signature2020ProofDraft extends ProofDraft {
     }
     
     protected LdNodeBuilder unsigned(LdNodeBuilder builder) {
+        return unsigned(builder, created != null ? created : Instant.now());
+    }
+
+    LdNodeBuilder unsigned(LdNodeBuilder builder, Instant created) {
         super.unsigned(builder, Ed25519Signature2020.METHOD_ADAPTER);
         
         builder.type(Ed25519Signature2020.ID);
         builder.set(DataIntegrityVocab.PURPOSE).id(purpose);
-        builder.set(DataIntegrityVocab.CREATED).xsdDateTime(created != null ? created : Instant.now());
+        builder.set(DataIntegrityVocab.CREATED).xsdDateTime(created);
 
         if (domain != null) {
             builder.set(DataIntegrityVocab.DOMAIN).string(domain);
@@ -88,6 +93,39 @@ public final class Ed25519Signature2020ProofDraft extends ProofDraft {
         return builder;
     }
     
+    /**
+     * Compiles the draft into a reusable template. The proof options are
+     * canonicalized once, only <code>created</code> is patched per issued
+     * proof. Later changes of this draft do not affect the compiled draft.
+     *
+     * @return a new compiled draft
+     * @throws SigningError if the proof options cannot be canonicalized
+     */
+    public Ed25519Signature2020CompiledDraft compile() throws SigningError {
+        return Ed25519Signature2020CompiledDraft.compile(copy());
+    }
+
+    VerificationMethod verificationMethod() {
+        return method;
+    }
+
+    URI verificationUrl() {
+        return verificatonUrl;
+    }
+
+    Ed25519Signature2020ProofDraft copy() {
+        final Ed25519Signature2020ProofDraft copy = method != null
+                ? new Ed25519Signature2020ProofDraft(method, purpose)
+                : new Ed25519Signature2020ProofDraft(verificatonUrl, purpose);
+        copy.id(id);
+        copy.previousProof(previousProof);
+        copy.created = created;
+        copy.domain = domain;
+        copy.challenge = challenge;
+        copy.nonce = nonce;
+        return copy;
+    }
+
     @Override
     public Collection<String> context(ModelVersion model) {
         return Arrays.asList(Ed25519Signature2020.CONTEXT);
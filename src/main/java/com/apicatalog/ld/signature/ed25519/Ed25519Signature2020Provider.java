@@ -1,8 +1,117 @@
 package com.apicatalog.ld.signature.ed25519;
 
-public final class Ed25519Signature2020Provider extends NativeSignatureProvider {
+import java.nio.ByteBuffer;
+import java.security.PublicKey;
+import java.security.interfaces.EdECPublicKey;
+import java.util.List;
+
+import com.apicatalog.ld.signature.VerificationError;
+import com.apicatalog.ld.signature.VerificationError.Code;
+
+/**
+ * A JCA based Ed25519 provider. Single signatures are verified by JCA, i.e.
+ * cofactorless, <code>S * B = R + k * A</code>. Batches are verified
+ * cofactored, see {@link #verify(List)}.
+ * <p>
+ * A cofactored provider, see
+ * {@link #Ed25519Signature2020Provider(EngineStrategy, BoundedCache, boolean)},
+ * checks a signature rejected by JCA again by the cofactored equation, as
+ * {@link JavaSignatureProvider} does. A signature is then accepted or rejected
+ * regardless of being verified alone or in a batch, but an invalid signature
+ * costs an additional, slower, verification.
+ * </p>
+ */
+public final class Ed25519Signature2020Provider extends NativeSignatureProvider implements BatchSignatureAlgorithm {
+
+    public static final int DEFAULT_KEY_CACHE_CAPACITY = 1024;
+
+    public static final EngineStrategy DEFAULT_ENGINE_STRATEGY = EngineStrategy.POOLED;
+
+    /**
+     * A maximal number of signatures verified at once, a failed batch is
+     * re-verified one by one.
+     */
+    public static final int BATCH_SIZE = Ed25519BatchVerifier.BATCH_SIZE;
+
+    final Ed25519BatchVerifier batchVerifier;
+
+    final boolean cofactored;
 
     public Ed25519Signature2020Provider() {
-        super("Ed25519");
+        this(DEFAULT_ENGINE_STRATEGY);
+    }
+
+    public Ed25519Signature2020Provider(EngineStrategy strategy) {
+        this(strategy, new BoundedCache<>(DEFAULT_KEY_CACHE_CAPACITY));
+    }
+
+    /**
+     * Creates a new provider with the given cache of decoded public keys.
+     *
+     * @param publicKeyCache a cache of decoded public keys, <code>null</code>
+     *                       disables caching
+     */
+    public Ed25519Signature2020Provider(BoundedCache<ByteBuffer, PublicKey> publicKeyCache) {
+        this(DEFAULT_ENGINE_STRATEGY, publicKeyCache);
+    }
+
+    /**
+     * Creates a new provider.
+     *
+     * @param strategy       determines how JCA engines are obtained
+     * @param publicKeyCache a cache of decoded public keys, <code>null</code>
+     *                       disables caching
+     */
+    public Ed25519Signature2020Provider(EngineStrategy strategy, BoundedCache<ByteBuffer, PublicKey> publicKeyCache) {
+        this(strategy, publicKeyCache, false);
+    }
+
+    /**
+     * Creates a new provider.
+     *
+     * @param strategy       determines how JCA engines are obtained
+     * @param publicKeyCache a cache of decoded public keys, <code>null</code>
+     *                       disables caching
+     * @param cofactored     <code>true</code> to check a signature rejected by
+     *                       JCA again by the cofactored equation
+     */
+    public Ed25519Signature2020Provider(EngineStrategy strategy, BoundedCache<ByteBuffer, PublicKey> publicKeyCache, boolean cofactored) {
+        super("Ed25519", strategy, publicKeyCache);
+        this.batchVerifier = new Ed25519BatchVerifier(random);
+        this.cofactored = cofactored;
+    }
+
+    /**
+     * Verifies the given signatures using randomized batch verification. The
+     * entries are split into batches of {@link #BATCH_SIZE}, each verified by a
+     * single multi-scalar multiplication. If a batch fails then its entries are
+     * verified individually to find invalid signatures.
+     * <p>
+     * The batch check is cofactored. Unless the provider is cofactored, a
+     * signature with a small order component can be accepted in a batch and
+     * rejected alone.
+     * </p>
+     */
+    @Override
+    public boolean[] verify(final List<BatchEntry> batch) {
+        return batchVerifier.verify(batch, this);
+    }
+
+    public boolean isCofactored() {
+        return cofactored;
+    }
+
+    /**
+     * JCA verification is cofactorless, if the provider is cofactored a rejected
+     * signature is checked again cofactored, as by the batch verification.
+     */
+    @Override
+    void rejected(final PublicKey publicKey, final byte[] signature, final int signatureOffset, final int signatureLength, final byte[] data, final int offset, final int length, final ByteBuffer buffer) throws VerificationError {
+
+        if (!cofactored || signatureLength != 64 || !(publicKey instanceof EdECPublicKey key)) {
+            throw new VerificationError(Code.InvalidSignature);
+        }
+
+        JavaSignatureProvider.verify(Ed25519KeyGenerator.encode(key.getPoint()), 0, signature, signatureOffset, data, offset, length, buffer);
     }
-}
\ No newline at end of file
+}
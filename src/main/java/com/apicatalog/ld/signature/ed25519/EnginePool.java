@@ -0,0 +1,121 @@
+package com.apicatalog.ld.signature.ed25519;
+
+import java.security.NoSuchAlgorithmException;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Provides JCA engine instances according to the given
+ * {@link EngineStrategy}. An engine must be released only if an operation has
+ * completed normally, an engine in an unknown state is simply dropped.
+ *
+ * @param <T> an engine type
+ */
+abstract class EnginePool<T> {
+
+    @FunctionalInterface
+    interface EngineFactory<T> {
+        T create() throws NoSuchAlgorithmException;
+    }
+
+    protected final EngineFactory<T> factory;
+
+    protected EnginePool(EngineFactory<T> factory) {
+        this.factory = factory;
+    }
+
+    static <T> EnginePool<T> create(EngineStrategy strategy, EngineFactory<T> factory) {
+        switch (strategy) {
+        case PER_CALL:
+            return new PerCall<>(factory);
+
+        case THREAD_LOCAL:
+            return new PerThread<>(factory);
+
+        case POOLED:
+            return new Pooled<>(factory, 4 * Runtime.getRuntime().availableProcessors());
+        }
+        throw new IllegalArgumentException("Unsupported engine strategy [" + strategy + "].");
+    }
+
+    abstract T acquire() throws NoSuchAlgorithmException;
+
+    abstract void release(T engine);
+
+    static final class PerCall<T> extends EnginePool<T> {
+
+        PerCall(EngineFactory<T> factory) {
+            super(factory);
+        }
+
+        @Override
+        T acquire() throws NoSuchAlgorithmException {
+            return factory.create();
+        }
+
+        @Override
+        void release(T engine) {
+            /* nothing to do */
+        }
+    }
+
+    static final class PerThread<T> extends EnginePool<T> {
+
+        final ThreadLocal<T> engines;
+
+        PerThread(EngineFactory<T> factory) {
+            super(factory);
+            this.engines = new ThreadLocal<>();
+        }
+
+        @Override
+        T acquire() throws NoSuchAlgorithmException {
+            final T engine = engines.get();
+            if (engine != null) {
+                // the engine is owned by the operation until released
+                engines.set(null);
+                return engine;
+            }
+            return factory.create();
+        }
+
+        @Override
+        void release(T engine) {
+            engines.set(engine);
+        }
+    }
+
+    static final class Pooled<T> extends EnginePool<T> {
+
+        final Queue<T> idle;
+        final AtomicInteger size;
+        final int maxIdle;
+
+        Pooled(EngineFactory<T> factory, int maxIdle) {
+            super(factory);
+            this.idle = new ConcurrentLinkedQueue<>();
+            this.size = new AtomicInteger();
+            this.maxIdle = maxIdle;
+        }
+
+        @Override
+        T acquire() throws NoSuchAlgorithmException {
+            final T engine = idle.poll();
+            if (engine != null) {
+                size.decrementAndGet();
+                return engine;
+            }
+            return factory.create();
+        }
+
+        @Override
+        void release(T engine) {
+            if (size.incrementAndGet() <= maxIdle) {
+                idle.offer(engine);
+                return;
+            }
+            size.decrementAndGet();
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.apicatalog.ld.signature.ed25519;
+
+/**
+ * Determines how {@link java.security.Signature} and
+ * {@link java.security.KeyFactory} engines are obtained by a native signature
+ * provider.
+ */
+public enum EngineStrategy {
+
+    /**
+     * A new engine is looked up via JCA for each operation.
+     */
+    PER_CALL,
+
+    /**
+     * Each thread keeps its own engine instance. Suitable for a fixed number of
+     * platform threads, not recommended with virtual threads.
+     */
+    THREAD_LOCAL,
+
+    /**
+     * Engines are borrowed from and returned to a lock-free pool shared by all
+     * threads, including virtual threads.
+     */
+    POOLED
+}
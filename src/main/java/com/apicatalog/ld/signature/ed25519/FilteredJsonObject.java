@@ -0,0 +1,182 @@
+package com.apicatalog.ld.signature.ed25519;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+
+import jakarta.json.Json;
+import jakarta.json.JsonArray;
+import jakarta.json.JsonNumber;
+import jakarta.json.JsonObject;
+import jakarta.json.JsonString;
+import jakarta.json.JsonValue;
+
+/**
+ * An immutable view of a {@link JsonObject} hiding a single property. The
+ * underlying object is not copied.
+ */
+final class FilteredJsonObject extends AbstractMap<String, JsonValue> implements JsonObject {
+
+    final JsonObject object;
+    final String excluded;
+
+    FilteredJsonObject(final JsonObject object, final String excluded) {
+        this.object = Objects.requireNonNull(object);
+        this.excluded = Objects.requireNonNull(excluded);
+    }
+
+    @Override
+    public JsonValue get(Object key) {
+        return excluded.equals(key) ? null : object.get(key);
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return !excluded.equals(key) && object.containsKey(key);
+    }
+
+    @Override
+    public int size() {
+        return object.containsKey(excluded) ? object.size() - 1 : object.size();
+    }
+
+    @Override
+    public Set<Entry<String, JsonValue>> entrySet() {
+        return new AbstractSet<>() {
+
+            @Override
+            public Iterator<Entry<String, JsonValue>> iterator() {
+                return new FilteredIterator(object.entrySet().iterator());
+            }
+
+            @Override
+            public int size() {
+                return FilteredJsonObject.this.size();
+            }
+        };
+    }
+
+    @Override
+    public JsonArray getJsonArray(String name) {
+        return (JsonArray) get(name);
+    }
+
+    @Override
+    public JsonObject getJsonObject(String name) {
+        return (JsonObject) get(name);
+    }
+
+    @Override
+    public JsonNumber getJsonNumber(String name) {
+        return (JsonNumber) get(name);
+    }
+
+    @Override
+    public JsonString getJsonString(String name) {
+        return (JsonString) get(name);
+    }
+
+    @Override
+    public String getString(String name) {
+        return getJsonString(name).getString();
+    }
+
+    @Override
+    public String getString(String name, String defaultValue) {
+        final JsonValue value = get(name);
+        return value instanceof JsonString ? ((JsonString) value).getString() : defaultValue;
+    }
+
+    @Override
+    public int getInt(String name) {
+        return getJsonNumber(name).intValue();
+    }
+
+    @Override
+    public int getInt(String name, int defaultValue) {
+        final JsonValue value = get(name);
+        return value instanceof JsonNumber ? ((JsonNumber) value).intValue() : defaultValue;
+    }
+
+    @Override
+    public boolean getBoolean(String name) {
+        final JsonValue value = get(name);
+        if (value == null) {
+            throw new NullPointerException();
+        }
+        if (JsonValue.TRUE.equals(value)) {
+            return true;
+        }
+        if (JsonValue.FALSE.equals(value)) {
+            return false;
+        }
+        throw new ClassCastException();
+    }
+
+    @Override
+    public boolean getBoolean(String name, boolean defaultValue) {
+        final JsonValue value = get(name);
+        if (JsonValue.TRUE.equals(value)) {
+            return true;
+        }
+        if (JsonValue.FALSE.equals(value)) {
+            return false;
+        }
+        return defaultValue;
+    }
+
+    @Override
+    public boolean isNull(String name) {
+        final JsonValue value = get(name);
+        if (value == null) {
+            throw new NullPointerException();
+        }
+        return JsonValue.NULL.equals(value);
+    }
+
+    @Override
+    public ValueType getValueType() {
+        return ValueType.OBJECT;
+    }
+
+    @Override
+    public String toString() {
+        return Json.createObjectBuilder(this).build().toString();
+    }
+
+    final class FilteredIterator implements Iterator<Entry<String, JsonValue>> {
+
+        final Iterator<Entry<String, JsonValue>> iterator;
+
+        Entry<String, JsonValue> next;
+
+        FilteredIterator(Iterator<Entry<String, JsonValue>> iterator) {
+            this.iterator = iterator;
+        }
+
+        @Override
+        public boolean hasNext() {
+            while (next == null && iterator.hasNext()) {
+                final Entry<String, JsonValue> entry = iterator.next();
+                if (!excluded.equals(entry.getKey())) {
+                    next = entry;
+                }
+            }
+            return next != null;
+        }
+
+        @Override
+        public Entry<String, JsonValue> next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            final Entry<String, JsonValue> entry = next;
+            next = null;
+            return Map.entry(entry.getKey(), entry.getValue());
+        }
+    }
+}
@@ -0,0 +1,195 @@
+package com.apicatalog.ld.signature.ed25519;
+
+import java.nio.ByteBuffer;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+import com.apicatalog.ld.signature.SigningError;
+import com.apicatalog.ld.signature.VerificationError;
+import com.apicatalog.ld.signature.VerificationError.Code;
+import com.apicatalog.ld.signature.key.KeyPair;
+
+/**
+ * A pure Java Ed25519 implementation, RFC 8032. Field arithmetic is computed
+ * in radix 2^51, signing uses precomputed base point multiples and runs in
+ * constant time. Verification is cofactored, alone as well as in a batch.
+ */
+public final class JavaSignatureProvider implements BatchSignatureAlgorithm, BufferSignatureAlgorithm {
+
+    final SecureRandom random;
+
+    final Ed25519BatchVerifier batchVerifier;
+
+    public JavaSignatureProvider() {
+        this.random = new SecureRandom();
+        this.batchVerifier = new Ed25519BatchVerifier(random);
+    }
+
+    @Override
+    public void verify(final byte[] publicKey, final byte[] signature, final byte[] data) throws VerificationError {
+
+        if (publicKey == null || publicKey.length != 32
+                || signature == null || signature.length != 64) {
+            throw new VerificationError(Code.InvalidSignature);
+        }
+
+        verify(publicKey, 0, signature, 0, data, 0, data.length, null);
+    }
+
+    @Override
+    public void verify(final byte[] publicKey, final int publicKeyOffset, final byte[] signature, final int signatureOffset, final byte[] data, final int offset, final int length) throws VerificationError {
+
+        Objects.checkFromIndexSize(publicKeyOffset, 32, publicKey.length);
+        Objects.checkFromIndexSize(signatureOffset, 64, signature.length);
+        Objects.checkFromIndexSize(offset, length, data.length);
+
+        verify(publicKey, publicKeyOffset, signature, signatureOffset, data, offset, length, null);
+    }
+
+    @Override
+    public void verify(final ByteBuffer publicKey, final ByteBuffer signature, final ByteBuffer data) throws VerificationError {
+
+        if (publicKey.remaining() != 32 || signature.remaining() != 64) {
+            throw new VerificationError(Code.InvalidSignature);
+        }
+
+        // keys and signatures held by direct buffers are copied, data are not
+        final byte[] key = publicKey.hasArray() ? publicKey.array() : bytes(publicKey);
+        final int keyOffset = publicKey.hasArray() ? publicKey.arrayOffset() + publicKey.position() : 0;
+
+        final byte[] sig = signature.hasArray() ? signature.array() : bytes(signature);
+        final int sigOffset = signature.hasArray() ? signature.arrayOffset() + signature.position() : 0;
+
+        verify(key, keyOffset, sig, sigOffset, null, 0, 0, data);
+    }
+
+    /**
+     * Verifies the array slice or the buffer if not null. The check is
+     * cofactored, i.e. <code>8 * (S * B - k * A - R) = 0</code>, the same as
+     * checked by the batch verification, so a signature is accepted or rejected
+     * regardless of being verified alone or in a batch.
+     */
+    static void verify(final byte[] publicKey, final int publicKeyOffset, final byte[] signature, final int signatureOffset, final byte[] data, final int offset, final int length, final ByteBuffer buffer) throws VerificationError {
+
+        if (!Ed25519Scalar.isCanonical(signature, signatureOffset + 32)) {
+            throw new VerificationError(Code.InvalidSignature);
+        }
+
+        final Ed25519Point a = Ed25519Point.decode(publicKey, publicKeyOffset);
+        final Ed25519Point r = Ed25519Point.decode(signature, signatureOffset);
+
+        if (a == null || r == null) {
+            throw new VerificationError(Code.InvalidSignature);
+        }
+
+        final MessageDigest sha512 = sha512();
+        sha512.update(signature, signatureOffset, 32);
+        sha512.update(publicKey, publicKeyOffset, 32);
+        update(sha512, data, offset, length, buffer);
+
+        final byte[] k = Ed25519Scalar.reduce(sha512.digest(), 0);
+
+        final byte[] s = Arrays.copyOfRange(signature, signatureOffset + 32, signatureOffset + 64);
+
+        final Ed25519Point check = Ed25519FixedBase.multiply(s, k, a);
+
+        final long[][] ws = Ed25519Point.workspace();
+
+        Ed25519Point.sub(check, check, r.cached(), ws);
+
+        // clear the cofactor
+        Ed25519Point.dbl(check, check, ws);
+        Ed25519Point.dbl(check, check, ws);
+        Ed25519Point.dbl(check, check, ws);
+
+        if (!check.isIdentity()) {
+            throw new VerificationError(Code.InvalidSignature);
+        }
+    }
+
+    @Override
+    public boolean[] verify(final List<BatchEntry> batch) {
+        return batchVerifier.verify(batch, this);
+    }
+
+    @Override
+    public byte[] sign(final byte[] privateKey, final byte[] data) throws SigningError {
+        return sign(privateKey, data, 0, data.length);
+    }
+
+    @Override
+    public byte[] sign(final byte[] privateKey, final byte[] data, final int offset, final int length) throws SigningError {
+
+        if (privateKey == null || privateKey.length != 32) {
+            throw new SigningError(SigningError.Code.Internal);
+        }
+
+        try (final Ed25519PreparedSigner signer = new Ed25519PreparedSigner(privateKey)) {
+            return signer.sign(data, offset, length);
+        }
+    }
+
+    @Override
+    public void sign(final byte[] privateKey, final ByteBuffer data, final ByteBuffer signature) throws SigningError {
+
+        if (privateKey == null || privateKey.length != 32) {
+            throw new SigningError(SigningError.Code.Internal);
+        }
+
+        try (final Ed25519PreparedSigner signer = new Ed25519PreparedSigner(privateKey)) {
+            signer.sign(data, signature);
+        }
+    }
+
+    @Override
+    public KeyPair keygen() {
+        return Ed25519KeyGenerator.generate(1, random).get(0);
+    }
+
+    /**
+     * Generates the given number of key pairs in parallel. Private keys are
+     * drawn from a single {@link SecureRandom} instance shared by the provider.
+     *
+     * @param count a number of key pairs to generate
+     * @return generated key pairs
+     * @throws IllegalArgumentException if the count is not positive or too
+     *                                  large
+     */
+    public List<Ed25519KeyPair2020> keygen(int count) {
+        return Ed25519KeyGenerator.generate(count, random);
+    }
+
+    /**
+     * Updates the digest with the array slice or, if not <code>null</code>, with
+     * remaining bytes of the buffer, the buffer position is restored.
+     */
+    static void update(final MessageDigest digest, final byte[] data, final int offset, final int length, final ByteBuffer buffer) {
+        if (buffer == null) {
+            digest.update(data, offset, length);
+            return;
+        }
+        final int position = buffer.position();
+        digest.update(buffer);
+        buffer.position(position);
+    }
+
+    // copies remaining bytes, the buffer position is not changed
+    static byte[] bytes(final ByteBuffer buffer) {
+        final byte[] bytes = new byte[buffer.remaining()];
+        buffer.get(buffer.position(), bytes);
+        return bytes;
+    }
+
+    static MessageDigest sha512() {
+        try {
+            return MessageDigest.getInstance("SHA-512");
+
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package com.apicatalog.ld.signature.ed25519;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+
+import jakarta.json.JsonArray;
+import jakarta.json.JsonNumber;
+import jakarta.json.JsonObject;
+import jakarta.json.JsonString;
+import jakarta.json.JsonValue;
+
+/**
+ * Computes a stable SHA-256 digest of a JSON value. Object keys are sorted, so
+ * the digest does not depend on an order of properties. The digest is not an
+ * interoperable hash, it's intended to be used as a cache key.
+ */
+final class JsonDigest {
+
+    private JsonDigest() {
+        /* protected */
+    }
+
+    static byte[] sha256(final JsonValue value) {
+        final MessageDigest digest = newSha256();
+        update(digest, value);
+        return digest.digest();
+    }
+
+    static MessageDigest newSha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    static void update(final MessageDigest digest, final JsonValue value) {
+
+        switch (value.getValueType()) {
+        case OBJECT:
+            final JsonObject object = value.asJsonObject();
+            final String[] keys = object.keySet().toArray(new String[0]);
+            Arrays.sort(keys);
+
+            digest.update((byte) '{');
+            for (final String key : keys) {
+                update(digest, key);
+                update(digest, object.get(key));
+            }
+            digest.update((byte) '}');
+            break;
+
+        case ARRAY:
+            digest.update((byte) '[');
+            for (final JsonValue item : (JsonArray) value) {
+                update(digest, item);
+            }
+            digest.update((byte) ']');
+            break;
+
+        case STRING:
+            digest.update((byte) 's');
+            update(digest, ((JsonString) value).getString());
+            break;
+
+        case NUMBER:
+            digest.update((byte) 'n');
+            update(digest, ((JsonNumber) value).bigDecimalValue().toString());
+            break;
+
+        case TRUE:
+            digest.update((byte) 't');
+            break;
+
+        case FALSE:
+            digest.update((byte) 'f');
+            break;
+
+        case NULL:
+            digest.update((byte) '0');
+            break;
+        }
+    }
+
+    static void update(final MessageDigest digest, final String value) {
+        final byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+
+        // length prefixed
+        digest.update((byte) (bytes.length >>> 24));
+        digest.update((byte) (bytes.length >>> 16));
+        digest.update((byte) (bytes.length >>> 8));
+        digest.update((byte) bytes.length);
+        digest.update(bytes);
+    }
+}
@@ -0,0 +1,78 @@
+package com.apicatalog.ld.signature.ed25519;
+
+import com.apicatalog.ld.signature.CryptoSuite;
+import com.apicatalog.ld.signature.LinkedDataSuiteError;
+import com.apicatalog.ld.signature.SigningError;
+import com.apicatalog.ld.signature.VerificationError;
+import com.apicatalog.ld.signature.ed25519.MetricsListener.Stage;
+
+import jakarta.json.JsonStructure;
+
+/**
+ * A crypto suite reporting durations of canonicalization, hashing, signing and
+ * verification to a {@link MetricsListener}.
+ */
+final class MeasuredCryptoSuite extends CryptoSuite {
+
+    final CryptoSuite suite;
+    final MetricsListener metrics;
+
+    MeasuredCryptoSuite(final CryptoSuite suite, final MetricsListener metrics) {
+        super(suite.id(), suite, suite, suite);
+        this.suite = suite;
+        this.metrics = metrics;
+    }
+
+    static CryptoSuite of(final CryptoSuite suite, final MetricsListener metrics) {
+        if (metrics == null || metrics == MetricsListener.NOOP) {
+            return suite;
+        }
+        return new MeasuredCryptoSuite(suite, metrics);
+    }
+
+    @Override
+    public byte[] canonicalize(final JsonStructure document) throws LinkedDataSuiteError {
+        final long start = System.nanoTime();
+        byte[] nquads = null;
+        try {
+            nquads = suite.canonicalize(document);
+            return nquads;
+
+        } finally {
+            metrics.onStage(Stage.CANONICALIZATION, System.nanoTime() - start, nquads != null ? nquads.length : 0);
+        }
+    }
+
+    @Override
+    public byte[] digest(final byte[] data) throws LinkedDataSuiteError {
+        final long start = System.nanoTime();
+        try {
+            return suite.digest(data);
+
+        } finally {
+            metrics.onStage(Stage.DIGEST, System.nanoTime() - start, data.length);
+        }
+    }
+
+    @Override
+    public byte[] sign(final byte[] privateKey, final byte[] data) throws SigningError {
+        final long start = System.nanoTime();
+        try {
+            return suite.sign(privateKey, data);
+
+        } finally {
+            metrics.onStage(Stage.SIGNING, System.nanoTime() - start, data.length);
+        }
+    }
+
+    @Override
+    public void verify(final byte[] publicKey, final byte[] signature, final byte[] data) throws VerificationError {
+        final long start = System.nanoTime();
+        try {
+            suite.verify(publicKey, signature, data);
+
+        } finally {
+            metrics.onStage(Stage.SIGNATURE_VERIFICATION, System.nanoTime() - start, data.length);
+        }
+    }
+}
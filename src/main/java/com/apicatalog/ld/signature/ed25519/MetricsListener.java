@@ -0,0 +1,64 @@
+package com.apicatalog.ld.signature.ed25519;
+
+/**
+ * Receives timings and cache statistics of verification and issuance stages.
+ * Methods are called synchronously on a processing thread, possibly by many
+ * threads at once, an implementation must be thread-safe and fast.
+ * <p>
+ * See {@link MetricsRecorder} for a built-in implementation.
+ * </p>
+ */
+public interface MetricsListener {
+
+    /**
+     * A listener ignoring all events. Instrumentation is not installed if this
+     * listener is set.
+     */
+    MetricsListener NOOP = new MetricsListener() {
+    };
+
+    enum Stage {
+        /** loading a remote or persisted document by a context loader */
+        CONTEXT_LOADING,
+        /** JSON-LD expansion of a verified document */
+        EXPANSION,
+        /** URDNA2015 canonicalization, bytes of N-Quads produced */
+        CANONICALIZATION,
+        /** SHA-256 hashing, bytes hashed */
+        DIGEST,
+        /** signing, bytes signed */
+        SIGNING,
+        /** signature verification, bytes verified */
+        SIGNATURE_VERIFICATION,
+    }
+
+    enum Cache {
+        /** {@link Ed25519ContextLoader} in-memory documents */
+        CONTEXT,
+        /** {@link DiskContextCache} documents */
+        DISK,
+        /** canonicalized proof options, see {@link Ed25519Signature2020#proofHashCache()} */
+        PROOF_HASH,
+        /** successful verifications, see {@link Ed25519Signature2020#verificationCache()} */
+        VERIFICATION,
+    }
+
+    /**
+     * Called when a stage has been completed, successfully or not.
+     *
+     * @param stage a stage
+     * @param nanos a duration in nanoseconds
+     * @param bytes a number of bytes processed, 0 if unknown
+     */
+    default void onStage(Stage stage, long nanos, long bytes) {
+    }
+
+    /**
+     * Called on a cache lookup.
+     *
+     * @param cache a cache
+     * @param hit   <code>true</code> if a value has been found
+     */
+    default void onCache(Cache cache, boolean hit) {
+    }
+}
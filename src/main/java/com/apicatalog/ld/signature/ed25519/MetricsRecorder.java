@@ -0,0 +1,103 @@
+package com.apicatalog.ld.signature.ed25519;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A {@link MetricsListener} aggregating events in memory. Each stage keeps a
+ * number of calls, processed bytes, and a {@link LatencyHistogram} of
+ * durations, each cache a number of hits and misses. Values can be read at
+ * any time, e.g. by a periodic exporter.
+ */
+public final class MetricsRecorder implements MetricsListener {
+
+    protected final Map<Stage, LatencyHistogram> durations;
+    protected final Map<Stage, LongAdder> bytes;
+
+    protected final Map<Cache, LongAdder> hits;
+    protected final Map<Cache, LongAdder> misses;
+
+    public MetricsRecorder() {
+        this.durations = new EnumMap<>(Stage.class);
+        this.bytes = new EnumMap<>(Stage.class);
+        this.hits = new EnumMap<>(Cache.class);
+        this.misses = new EnumMap<>(Cache.class);
+
+        // never modified, safe to read concurrently
+        for (final Stage stage : Stage.values()) {
+            durations.put(stage, new LatencyHistogram());
+            bytes.put(stage, new LongAdder());
+        }
+        for (final Cache cache : Cache.values()) {
+            hits.put(cache, new LongAdder());
+            misses.put(cache, new LongAdder());
+        }
+    }
+
+    @Override
+    public void onStage(final Stage stage, final long nanos, final long bytes) {
+        durations.get(stage).record(nanos);
+        if (bytes > 0) {
+            this.bytes.get(stage).add(bytes);
+        }
+    }
+
+    @Override
+    public void onCache(final Cache cache, final boolean hit) {
+        (hit ? hits : misses).get(cache).increment();
+    }
+
+    /**
+     * Returns durations, in nanoseconds, of the given stage.
+     *
+     * @param stage a stage
+     * @return a histogram of durations
+     */
+    public LatencyHistogram durations(final Stage stage) {
+        return durations.get(stage);
+    }
+
+    public long count(final Stage stage) {
+        return durations.get(stage).count();
+    }
+
+    public long bytes(final Stage stage) {
+        return bytes.get(stage).sum();
+    }
+
+    public long hits(final Cache cache) {
+        return hits.get(cache).sum();
+    }
+
+    public long misses(final Cache cache) {
+        return misses.get(cache).sum();
+    }
+
+    public void reset() {
+        for (final Stage stage : Stage.values()) {
+            durations.get(stage).reset();
+            bytes.get(stage).reset();
+        }
+        for (final Cache cache : Cache.values()) {
+            hits.get(cache).reset();
+            misses.get(cache).reset();
+        }
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder builder = new StringBuilder("MetricsRecorder[");
+        for (final Stage stage : Stage.values()) {
+            builder.append(stage).append('=').append(durations.get(stage)).append(", ");
+        }
+        for (final Cache cache : Cache.values()) {
+            builder.append(cache)
+                    .append("=[hits=").append(hits(cache))
+                    .append(", misses=").append(misses(cache))
+                    .append("], ");
+        }
+        builder.setLength(builder.length() - 2);
+        return builder.append(']').toString();
+    }
+}
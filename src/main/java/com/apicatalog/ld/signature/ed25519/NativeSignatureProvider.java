@@ -1,116 +1,361 @@
 package com.apicatalog.ld.signature.ed25519;
 
 import java.math.BigInteger;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.security.InvalidAlgorithmParameterException;
 import java.security.InvalidKeyException;
 import java.security.KeyFactory;
+import java.security.KeyPairGenerator;
 import java.security.NoSuchAlgorithmException;
 import java.security.PrivateKey;
 import java.security.PublicKey;
+import java.security.SecureRandom;
 import java.security.SignatureException;
+import java.security.interfaces.EdECPrivateKey;
+import java.security.interfaces.EdECPublicKey;
 import java.security.spec.EdECPoint;
 import java.security.spec.EdECPrivateKeySpec;
 import java.security.spec.EdECPublicKeySpec;
 import java.security.spec.InvalidKeySpecException;
 import java.security.spec.NamedParameterSpec;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
 
+import com.apicatalog.ld.signature.KeyGenError;
 import com.apicatalog.ld.signature.SigningError;
 import com.apicatalog.ld.signature.VerificationError;
 import com.apicatalog.ld.signature.VerificationError.Code;
-import com.apicatalog.ld.signature.algorithm.SignatureAlgorithm;
 import com.apicatalog.ld.signature.key.KeyPair;
 
-class NativeSignatureProvider implements SignatureAlgorithm {
+class NativeSignatureProvider implements BufferSignatureAlgorithm {
+
+    static final byte[] EMPTY = new byte[0];
 
     final String type;
 
+    final BoundedCache<ByteBuffer, PublicKey> publicKeys;
+
+    final EngineStrategy strategy;
+
+    final EnginePool<java.security.Signature> signatures;
+    final EnginePool<KeyFactory> keyFactories;
+
+    final SecureRandom random;
+
     public NativeSignatureProvider(final String type) {
+        this(type, EngineStrategy.PER_CALL, null);
+    }
+
+    /**
+     * Creates a new provider instance.
+     *
+     * @param type       a signature algorithm name, e.g. <code>Ed25519</code>
+     * @param strategy   determines how JCA engines are obtained
+     * @param publicKeys an optional cache of decoded public keys, keyed by raw
+     *                   public key bytes, <code>null</code> disables caching
+     */
+    public NativeSignatureProvider(final String type, final EngineStrategy strategy, final BoundedCache<ByteBuffer, PublicKey> publicKeys) {
         this.type = type;
+        this.strategy = strategy;
+        this.publicKeys = publicKeys;
+        this.signatures = EnginePool.create(strategy, () -> java.security.Signature.getInstance(type));
+        this.keyFactories = EnginePool.create(strategy, () -> KeyFactory.getInstance(type));
+        this.random = new SecureRandom();
     }
 
     @Override
     public void verify(final byte[] publicKey, final byte[] signature, final byte[] data) throws VerificationError {
+        verify(publicKey(publicKey, 0, publicKey.length), signature, 0, signature.length, data, 0, data.length, null);
+    }
+
+    @Override
+    public void verify(final byte[] publicKey, final int publicKeyOffset, final byte[] signature, final int signatureOffset, final byte[] data, final int offset, final int length) throws VerificationError {
+
+        Objects.checkFromIndexSize(publicKeyOffset, 32, publicKey.length);
+        Objects.checkFromIndexSize(signatureOffset, 64, signature.length);
+        Objects.checkFromIndexSize(offset, length, data.length);
+
+        verify(publicKey(publicKey, publicKeyOffset, 32), signature, signatureOffset, 64, data, offset, length, null);
+    }
+
+    @Override
+    public void verify(final ByteBuffer publicKey, final ByteBuffer signature, final ByteBuffer data) throws VerificationError {
+
+        if (publicKey.remaining() != 32 || signature.remaining() != 64) {
+            throw new VerificationError(Code.InvalidSignature);
+        }
+
+        // a signature held by a direct buffer is copied, data are not
+        if (signature.hasArray()) {
+            verify(publicKey(publicKey), signature.array(), signature.arrayOffset() + signature.position(), 64, null, 0, 0, data);
+            return;
+        }
+
+        verify(publicKey(publicKey), JavaSignatureProvider.bytes(signature), 0, 64, null, 0, 0, data);
+    }
+
+    // verifies the array slice or the buffer if not null
+    void verify(final PublicKey publicKey, final byte[] signature, final int signatureOffset, final int signatureLength, final byte[] data, final int offset, final int length, final ByteBuffer buffer) throws VerificationError {
+
+        final Ed25519Events.Verify event = new Ed25519Events.Verify();
+
+        event.begin();
+        event.dataSize = buffer != null ? buffer.remaining() : length;
         try {
-            java.security.Signature suite = java.security.Signature.getInstance(type);
+            final java.security.Signature suite = signatures.acquire();
+
+            suite.initVerify(publicKey);
+            update(suite, data, offset, length, buffer);
+
+            final boolean verified = suite.verify(signature, signatureOffset, signatureLength);
 
-            suite.initVerify(getPublicKey(publicKey));
-            suite.update(data);
+            signatures.release(suite);
 
-            if (!suite.verify(signature)) {
-                throw new VerificationError(Code.InvalidSignature);
+            if (!verified) {
+                rejected(publicKey, signature, signatureOffset, signatureLength, data, offset, length, buffer);
             }
 
-        } catch (InvalidKeySpecException | InvalidKeyException
-                | NoSuchAlgorithmException | SignatureException e) {
+            event.outcome = Ed25519Events.OK;
+
+        } catch (InvalidKeyException | NoSuchAlgorithmException | SignatureException e) {
+            event.outcome = Ed25519Events.outcome(e);
             throw new VerificationError(Code.InvalidSignature, e);
+
+        } catch (VerificationError | RuntimeException e) {
+            event.outcome = Ed25519Events.outcome(e);
+            throw e;
+
+        } finally {
+            event.commit();
         }
     }
 
     @Override
     public byte[] sign(final byte[] privateKey, final byte[] data) throws SigningError {
+        return sign(privateKey, data, 0, data.length, null);
+    }
+
+    @Override
+    public byte[] sign(final byte[] privateKey, final byte[] data, final int offset, final int length) throws SigningError {
+
+        Objects.checkFromIndexSize(offset, length, data.length);
+
+        return sign(privateKey, data, offset, length, null);
+    }
+
+    @Override
+    public void sign(final byte[] privateKey, final ByteBuffer data, final ByteBuffer signature) throws SigningError {
 
+        if (signature.remaining() < 64) {
+            throw new BufferOverflowException();
+        }
+
+        signature.put(sign(privateKey, null, 0, 0, data));
+    }
+
+    // signs the array slice or the buffer if not null
+    byte[] sign(final byte[] privateKey, final byte[] data, final int offset, final int length, final ByteBuffer buffer) throws SigningError {
+
+        final Ed25519Events.Sign event = new Ed25519Events.Sign();
+
+        event.begin();
+        event.dataSize = buffer != null ? buffer.remaining() : length;
         try {
-            java.security.Signature suite = java.security.Signature.getInstance(type);
+            final java.security.Signature suite = signatures.acquire();
 
             suite.initSign(getPrivateKey(privateKey));
-            suite.update(data);
+            update(suite, data, offset, length, buffer);
+
+            final byte[] signature = suite.sign();
 
-            return suite.sign();
+            signatures.release(suite);
+
+            event.outcome = Ed25519Events.OK;
+
+            return signature;
 
         } catch (InvalidKeySpecException | InvalidKeyException
                 | NoSuchAlgorithmException | SignatureException e) {
+            event.outcome = Ed25519Events.outcome(e);
             throw new SigningError(SigningError.Code.Internal, e);
+
+        } catch (RuntimeException e) {
+            event.outcome = Ed25519Events.outcome(e);
+            throw e;
+
+        } finally {
+            event.commit();
+        }
+    }
+
+    // called when a signature is rejected by JCA, throws if the signature is invalid
+    void rejected(final PublicKey publicKey, final byte[] signature, final int signatureOffset, final int signatureLength, final byte[] data, final int offset, final int length, final ByteBuffer buffer) throws VerificationError {
+        throw new VerificationError(Code.InvalidSignature);
+    }
+
+    // updates the engine with the array slice or the buffer, the buffer position is restored
+    static void update(final java.security.Signature suite, final byte[] data, final int offset, final int length, final ByteBuffer buffer) throws SignatureException {
+        if (buffer == null) {
+            suite.update(data, offset, length);
+            return;
+        }
+        if (!buffer.hasRemaining()) {
+            // JDK 17 rejects an empty message if the engine has not been updated
+            suite.update(EMPTY, 0, 0);
+            return;
         }
+        final int position = buffer.position();
+        suite.update(buffer);
+        buffer.position(position);
     }
 
     @Override
-    public KeyPair keygen() {
-        throw new UnsupportedOperationException();
+    public KeyPair keygen() throws KeyGenError {
+        try {
+            final KeyPairGenerator generator = KeyPairGenerator.getInstance(type);
+            generator.initialize(new NamedParameterSpec(type), random);
+
+            final java.security.KeyPair keyPair = generator.generateKeyPair();
+
+            final byte[] privateKey = ((EdECPrivateKey) keyPair.getPrivate()).getBytes()
+                    .orElseThrow(() -> new KeyGenError(KeyGenError.Code.Unknown));
+
+            return Ed25519KeyGenerator.create(
+                    Ed25519KeyGenerator.encode(((EdECPublicKey) keyPair.getPublic()).getPoint()),
+                    privateKey);
+
+        } catch (NoSuchAlgorithmException | InvalidAlgorithmParameterException e) {
+            throw new KeyGenError(KeyGenError.Code.UnknownCryptoSuite, e);
+        }
+    }
+
+    /**
+     * Generates the given number of key pairs in parallel. Private keys are
+     * drawn from a single {@link SecureRandom} instance shared by the provider.
+     *
+     * @param count a number of key pairs to generate
+     * @return generated key pairs
+     * @throws IllegalArgumentException if the count is not positive or too
+     *                                  large
+     */
+    public List<Ed25519KeyPair2020> keygen(int count) {
+        return Ed25519KeyGenerator.generate(count, random);
+    }
+
+    /**
+     * Returns a cache of decoded public keys, or <code>null</code> if caching is
+     * disabled.
+     *
+     * @return a public key cache or <code>null</code>
+     */
+    public BoundedCache<ByteBuffer, PublicKey> publicKeyCache() {
+        return publicKeys;
+    }
+
+    public EngineStrategy engineStrategy() {
+        return strategy;
+    }
+
+    PublicKey publicKey(final byte[] publicKey, final int offset, final int length) throws VerificationError {
+        try {
+            return getPublicKey(publicKey, offset, length);
+
+        } catch (InvalidKeySpecException | NoSuchAlgorithmException e) {
+            throw new VerificationError(Code.InvalidSignature, e);
+        }
+    }
+
+    PublicKey publicKey(final ByteBuffer publicKey) throws VerificationError {
+
+        // the buffer itself is a cache key, copied only if not found
+        final PublicKey cached = publicKeys != null ? publicKeys.get(publicKey) : null;
+
+        if (cached != null) {
+            return cached;
+        }
+
+        final byte[] key = JavaSignatureProvider.bytes(publicKey);
+
+        if (publicKeys == null) {
+            return publicKey(key, 0, key.length);
+        }
+
+        // already looked up, a miss is counted once
+        try {
+            final PublicKey decoded = decodePublicKey(key, 0, key.length);
+            publicKeys.put(ByteBuffer.wrap(key), decoded);
+            return decoded;
+
+        } catch (InvalidKeySpecException | NoSuchAlgorithmException e) {
+            throw new VerificationError(Code.InvalidSignature, e);
+        }
     }
 
     PublicKey getPublicKey(final byte[] publicKey) throws NoSuchAlgorithmException, InvalidKeySpecException {
+        return getPublicKey(publicKey, 0, publicKey.length);
+    }
 
-        final KeyFactory kf = KeyFactory.getInstance(type);
+    PublicKey getPublicKey(final byte[] publicKey, final int offset, final int length) throws NoSuchAlgorithmException, InvalidKeySpecException {
 
-        // determine if x was odd.
-        boolean xisodd = false;
+        if (publicKeys == null) {
+            return decodePublicKey(publicKey, offset, length);
+        }
 
-        int lastbyteInt = publicKey[publicKey.length - 1];
+        PublicKey key = publicKeys.get(ByteBuffer.wrap(publicKey, offset, length));
 
-        if ((lastbyteInt & 255) >> 7 == 1) {
-            xisodd = true;
+        if (key == null) {
+            key = decodePublicKey(publicKey, offset, length);
+            publicKeys.put(ByteBuffer.wrap(Arrays.copyOfRange(publicKey, offset, offset + length)), key);
         }
 
-        // make public key copy
-        byte[] key = new byte[publicKey.length];
-        System.arraycopy(publicKey, 0, key, 0, key.length);
+        return key;
+    }
+
+    PublicKey decodePublicKey(final byte[] publicKey) throws NoSuchAlgorithmException, InvalidKeySpecException {
+        return decodePublicKey(publicKey, 0, publicKey.length);
+    }
+
+    PublicKey decodePublicKey(final byte[] publicKey, final int offset, final int length) throws NoSuchAlgorithmException, InvalidKeySpecException {
+
+        // determine if x was odd.
+        final boolean xisodd = (publicKey[offset + length - 1] & 128) != 0;
+
+        // big-endian y, a single copy
+        final byte[] y = new byte[length];
+        for (int i = 0; i < length; i++) {
+            y[length - i - 1] = publicKey[offset + i];
+        }
 
-        // make sure most significant bit will be 0 - after reversing.
-        key[key.length - 1] &= 127;
+        // make sure most significant bit is 0
+        y[0] &= 127;
 
-        key = reverse(key);
+        final KeyFactory kf = keyFactories.acquire();
 
-        return kf.generatePublic(
+        final PublicKey decoded = kf.generatePublic(
                 new EdECPublicKeySpec(
                         new NamedParameterSpec(type),
                         new EdECPoint(
                                 xisodd,
-                                new BigInteger(1, key))));
+                                new BigInteger(1, y))));
+
+        keyFactories.release(kf);
+
+        return decoded;
     }
 
     PrivateKey getPrivateKey(byte[] privateKey)
             throws NoSuchAlgorithmException, InvalidKeySpecException {
-        KeyFactory kf = KeyFactory.getInstance(type);
+        final KeyFactory kf = keyFactories.acquire();
 
         NamedParameterSpec paramSpec = new NamedParameterSpec(type);
         EdECPrivateKeySpec spec = new EdECPrivateKeySpec(paramSpec, privateKey);
-        return kf.generatePrivate(spec);
-    }
 
-    static final byte[] reverse(byte[] data) {
-        final byte[] reversed = new byte[data.length];
-        for (int i = 0; i < data.length; i++) {
-            reversed[data.length - i - 1] = data[i];
-        }
-        return reversed;
+        final PrivateKey decoded = kf.generatePrivate(spec);
+
+        keyFactories.release(kf);
+
+        return decoded;
     }
 }
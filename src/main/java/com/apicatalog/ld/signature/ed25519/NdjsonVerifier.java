@@ -0,0 +1,281 @@
+package com.apicatalog.ld.signature.ed25519;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.StringReader;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import com.apicatalog.ld.DocumentError;
+import com.apicatalog.ld.signature.VerificationError;
+import com.apicatalog.vc.verifier.Verifier;
+
+import jakarta.json.JsonObject;
+import jakarta.json.JsonObjectBuilder;
+import jakarta.json.JsonReader;
+import jakarta.json.spi.JsonProvider;
+
+/**
+ * Verifies newline-delimited JSON documents, one document per line. Lines are
+ * read lazily and verified concurrently, at most <code>window</code> lines
+ * are in memory. A result is written for each non-empty line, in input order,
+ * e.g.
+ *
+ * <pre>
+ * {"line":1,"verified":true}
+ * {"line":2,"verified":false,"error":"InvalidSignature"}
+ * </pre>
+ *
+ * Error codes are {@link VerificationError.Code} names or
+ * {@link DocumentError#getCode()} values, {@link #MALFORMED} if a line is not
+ * a JSON object, or {@link #UNKNOWN}. A line failing for any reason is
+ * reported, the remaining lines are verified.
+ */
+public class NdjsonVerifier {
+
+    public static final String MALFORMED = "MalformedJson";
+
+    public static final String UNKNOWN = "Unknown";
+
+    /**
+     * Totals of a verification run.
+     *
+     * @param total    a number of verified lines
+     * @param verified a number of successfully verified lines
+     * @param failed   a number of lines that failed to be verified
+     */
+    public record Summary(long total, long verified, long failed) {
+    }
+
+    protected final Verifier verifier;
+    protected final Executor executor;
+    protected final int window;
+
+    protected final JsonProvider provider;
+
+    /**
+     * Creates a new instance verifying up to four lines per available core,
+     * each run on a dedicated pool, see
+     * {@link #NdjsonVerifier(Verifier, Executor, int)}.
+     *
+     * @param verifier a verifier, e.g. with {@link Ed25519Signature2020} suite
+     */
+    public NdjsonVerifier(Verifier verifier) {
+        this(verifier, null, 4 * Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Creates a new instance. Verification can block on loading remote
+     * documents, e.g. verification methods, so a shared pool, e.g.
+     * {@link java.util.concurrent.ForkJoinPool#commonPool()}, should not be
+     * used.
+     *
+     * @param verifier a verifier, e.g. with {@link Ed25519Signature2020} suite
+     * @param executor an executor running verification tasks,
+     *                 <code>null</code> to run each
+     *                 {@link #verify(InputStream, OutputStream, Map)} on a
+     *                 dedicated pool of <code>window</code> threads shut down
+     *                 when the run completes
+     * @param window   a maximal number of lines in flight
+     */
+    public NdjsonVerifier(Verifier verifier, Executor executor, int window) {
+        if (window <= 0) {
+            throw new IllegalArgumentException("The window must be greater than zero but was " + window + ".");
+        }
+        this.verifier = Objects.requireNonNull(verifier);
+        this.executor = executor;
+        this.window = window;
+        this.provider = JsonProvider.provider();
+    }
+
+    public Summary verify(Path input, OutputStream output) throws IOException {
+        return verify(input, output, null);
+    }
+
+    public Summary verify(Path input, OutputStream output, Map<String, Object> params) throws IOException {
+        try (final InputStream is = Files.newInputStream(input)) {
+            return verify(is, output, params);
+        }
+    }
+
+    public Summary verify(InputStream input, OutputStream output) throws IOException {
+        return verify(input, output, null);
+    }
+
+    /**
+     * Verifies documents read from the given input and writes results to the
+     * given output. The streams are not closed.
+     *
+     * @param input  UTF-8 encoded newline-delimited JSON documents
+     * @param output UTF-8 encoded newline-delimited results
+     * @param params optional runtime parameters, e.g. domain, applied to all
+     *               documents
+     * @return totals
+     * @throws IOException if reading or writing fails
+     */
+    public Summary verify(InputStream input, OutputStream output, Map<String, Object> params) throws IOException {
+
+        final BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8));
+        final Writer writer = new BufferedWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8));
+
+        final ExecutorService pool = executor == null
+                ? Executors.newFixedThreadPool(window, NdjsonVerifier::thread)
+                : null;
+
+        final OrderedPipeline<Line, JsonObject> pipeline = new OrderedPipeline<>(
+                new LineIterator(reader),
+                line -> verify(line, params),
+                pool != null ? pool : executor,
+                window);
+
+        long total = 0;
+        long verified = 0;
+
+        try {
+            while (pipeline.hasNext()) {
+
+                final JsonObject result = pipeline.next();
+
+                total++;
+                if (result.getBoolean("verified")) {
+                    verified++;
+                }
+
+                writer.write(result.toString());
+                writer.write('\n');
+            }
+
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+
+        } finally {
+            if (pool != null) {
+                pool.shutdownNow();
+            }
+        }
+
+        writer.flush();
+
+        return new Summary(total, verified, total - verified);
+    }
+
+    JsonObject verify(Line line, Map<String, Object> params) {
+
+        final JsonObjectBuilder result = provider.createObjectBuilder().add("line", line.number);
+
+        final JsonObject document;
+
+        try (final JsonReader reader = provider.createReader(new StringReader(line.text))) {
+            document = reader.readObject();
+
+        } catch (RuntimeException e) {
+            // e.g. JsonException, or a parser failing on a pathological input
+            return result.add("verified", false).add("error", MALFORMED).build();
+        }
+
+        try {
+            if (params != null) {
+                verifier.verify(document, params);
+
+            } else {
+                verifier.verify(document);
+            }
+            return result.add("verified", true).build();
+
+        } catch (VerificationError e) {
+            return error(result, e.getCode() != null ? e.getCode().name() : null);
+
+        } catch (DocumentError e) {
+            return error(result, e.getCode());
+
+        } catch (RuntimeException e) {
+            return error(result, UNKNOWN);
+        }
+    }
+
+    static Thread thread(Runnable task) {
+        final Thread thread = new Thread(task, "ndjson-verifier");
+        thread.setDaemon(true);
+        return thread;
+    }
+
+    static JsonObject error(JsonObjectBuilder result, String code) {
+        result.add("verified", false);
+        if (code != null) {
+            result.add("error", code);
+        }
+        return result.build();
+    }
+
+    static final class Line {
+
+        final long number;
+        final String text;
+
+        Line(long number, String text) {
+            this.number = number;
+            this.text = text;
+        }
+    }
+
+    // reads non-blank lines, numbered from 1
+    static final class LineIterator implements Iterator<Line> {
+
+        final BufferedReader reader;
+
+        long number;
+        Line next;
+
+        LineIterator(BufferedReader reader) {
+            this.reader = reader;
+            this.number = 0;
+            this.next = null;
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (next != null) {
+                return true;
+            }
+            try {
+                String text;
+                while ((text = reader.readLine()) != null) {
+                    number++;
+                    if (!text.isBlank()) {
+                        next = new Line(number, text);
+                        return true;
+                    }
+                }
+                return false;
+
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        @Override
+        public Line next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            final Line line = next;
+            next = null;
+            return line;
+        }
+    }
+}
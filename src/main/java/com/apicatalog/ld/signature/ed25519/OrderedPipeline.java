@@ -0,0 +1,65 @@
+package com.apicatalog.ld.signature.ed25519;
+
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+
+/**
+ * Applies a function to input items concurrently and emits results in input
+ * order. At most <code>window</code> items are in flight, an input item is
+ * pulled only when a result has been consumed, i.e. a slow consumer or a slow
+ * item at the head of the window holds the producer back.
+ *
+ * @param <T> an input type
+ * @param <R> a result type
+ */
+final class OrderedPipeline<T, R> implements Iterator<R> {
+
+    final Iterator<T> source;
+    final Function<T, R> function;
+    final Executor executor;
+    final int window;
+
+    final ArrayDeque<CompletableFuture<R>> pending;
+
+    OrderedPipeline(Iterator<T> source, Function<T, R> function, Executor executor, int window) {
+        if (window <= 0) {
+            throw new IllegalArgumentException("The window must be greater than zero but was " + window + ".");
+        }
+        this.source = source;
+        this.function = function;
+        this.executor = executor;
+        this.window = window;
+        this.pending = new ArrayDeque<>(window);
+    }
+
+    @Override
+    public boolean hasNext() {
+        fill();
+        return !pending.isEmpty();
+    }
+
+    @Override
+    public R next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+
+        final R result = pending.poll().join();
+
+        // keep the window full while the result is consumed
+        fill();
+
+        return result;
+    }
+
+    void fill() {
+        while (pending.size() < window && source.hasNext()) {
+            final T item = source.next();
+            pending.offer(CompletableFuture.supplyAsync(() -> function.apply(item), executor));
+        }
+    }
+}
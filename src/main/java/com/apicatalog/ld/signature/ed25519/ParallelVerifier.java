@@ -0,0 +1,345 @@
+package com.apicatalog.ld.signature.ed25519;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+import com.apicatalog.jsonld.loader.DocumentLoader;
+import com.apicatalog.ld.DocumentError;
+import com.apicatalog.ld.DocumentError.ErrorType;
+import com.apicatalog.ld.Term;
+import com.apicatalog.ld.node.LdType;
+import com.apicatalog.ld.signature.CryptoSuite;
+import com.apicatalog.ld.signature.VerificationError;
+import com.apicatalog.ld.signature.VerificationError.Code;
+import com.apicatalog.ld.signature.VerificationMethod;
+import com.apicatalog.ld.signature.key.VerificationKey;
+import com.apicatalog.vc.VcVocab;
+import com.apicatalog.vc.Verifiable;
+import com.apicatalog.vc.integrity.DataIntegrityVocab;
+import com.apicatalog.vc.proof.EmbeddedProof;
+import com.apicatalog.vc.proof.Proof;
+import com.apicatalog.vc.suite.SignatureSuite;
+import com.apicatalog.vc.verifier.Verifier;
+
+import jakarta.json.JsonObject;
+import jakarta.json.JsonStructure;
+
+/**
+ * A verifier checking proofs of a proof set concurrently. Each proof is
+ * validated, its verification method resolved, and its signature verified in
+ * a separate task on the given executor. A document is canonicalized once for
+ * all {@link Ed25519Signature2020} proofs, and not before all proofs are
+ * validated and a verification key is checked, i.e. a malformed proof is
+ * rejected before any canonicalization.
+ * <p>
+ * A document is accepted if and only if it is accepted by {@link Verifier}.
+ * Proofs are ordered as by the {@link Verifier} proof queue, i.e. a proof
+ * follows a proof it references as <code>previousProof</code>, a reference to
+ * a missing proof or a duplicate proof id is rejected. The referenced proof is
+ * not a part of signed data, so all proofs are verified at once and only the
+ * results are examined in that order. A proof failing validation is reported
+ * before any signature failure.
+ * </p>
+ * <p>
+ * A task never waits on another task queued to the executor, i.e. a bounded
+ * pool of any size can be used, e.g.
+ * <code>Executors.newVirtualThreadPerTaskExecutor()</code> on Java 21+, or
+ * <code>Runnable::run</code> to verify proofs sequentially.
+ * </p>
+ */
+public class ParallelVerifier extends Verifier {
+
+    protected final Executor executor;
+
+    protected MetricsListener metrics;
+
+    // System.nanoTime() when the current thread started to verify, 0 if none
+    protected final ThreadLocal<Long> expansion = ThreadLocal.withInitial(() -> 0L);
+
+    protected ParallelVerifier(final Executor executor, final SignatureSuite... suites) {
+        super(suites);
+        this.executor = Objects.requireNonNull(executor);
+        this.metrics = MetricsListener.NOOP;
+    }
+
+    public static ParallelVerifier with(final Executor executor, final SignatureSuite... suites) {
+        return new ParallelVerifier(executor, suites);
+    }
+
+    public Executor executor() {
+        return executor;
+    }
+
+    /**
+     * Sets a listener receiving durations of JSON-LD expansion, including data
+     * model validation preceding proof verification. Use
+     * {@link Ed25519Signature2020.Builder#metrics(MetricsListener)} and
+     * {@link Ed25519ContextLoader#metrics(MetricsListener)} to get the other
+     * stages.
+     *
+     * @param metrics a listener, <code>null</code> disables instrumentation
+     * @return the verifier instance
+     */
+    public ParallelVerifier metrics(final MetricsListener metrics) {
+        this.metrics = metrics != null ? metrics : MetricsListener.NOOP;
+        return this;
+    }
+
+    public MetricsListener metrics() {
+        return metrics;
+    }
+
+    @Override
+    protected Verifiable verify(final JsonObject document, final Map<String, Object> params, final DocumentLoader loader) throws VerificationError, DocumentError {
+
+        if (metrics == MetricsListener.NOOP) {
+            return super.verify(document, params, loader);
+        }
+
+        // the expansion is done by the superclass, measured until proofs are verified
+        expansion.set(System.nanoTime());
+        try {
+            return super.verify(document, params, loader);
+
+        } finally {
+            expanded();
+        }
+    }
+
+    // reports the expansion of a document being verified by the current thread
+    protected void expanded() {
+        final long start = expansion.get();
+        if (start != 0) {
+            expansion.set(0L);
+            metrics.onStage(MetricsListener.Stage.EXPANSION, System.nanoTime() - start, 0);
+        }
+    }
+
+    @Override
+    protected Collection<Proof> verifyProofs(final JsonStructure context, final JsonObject expanded, final Map<String, Object> params, final DocumentLoader loader) throws VerificationError, DocumentError {
+
+        if (metrics != MetricsListener.NOOP) {
+            expanded();
+        }
+
+        final Collection<JsonObject> expandedProofs = EmbeddedProof.assertProof(expanded);
+
+        // nothing to parallelize
+        if (expandedProofs.size() < 2) {
+            return super.verifyProofs(context, expanded, params, loader);
+        }
+
+        final JsonObject data = EmbeddedProof.removeProofs(expanded);
+
+        final Collection<Proof> proofs = new ArrayList<>(expandedProofs.size());
+
+        for (final JsonObject expandedProof : expandedProofs) {
+
+            final Collection<String> proofType = LdType.strings(expandedProof);
+
+            if (proofType == null || proofType.isEmpty()) {
+                throw new DocumentError(ErrorType.Missing, VcVocab.PROOF, Term.TYPE);
+            }
+
+            final SignatureSuite suite = findSuite(proofType, expandedProof);
+
+            if (suite == null) {
+                throw new VerificationError(Code.UnsupportedCryptoSuite);
+            }
+
+            final Proof proof = suite.getProof(expandedProof, loader);
+
+            if (proof == null) {
+                throw new IllegalStateException("The suite [" + suite + "] returns null as a proof.");
+            }
+
+            proofs.add(proof);
+        }
+
+        final List<Proof> ordered = order(proofs);
+
+        // cheap structural and parameters checks first
+        for (final Proof proof : ordered) {
+            validate(proof, params);
+        }
+
+        // document digests shared by proofs using the same crypto suite
+        final Map<CryptoSuite, DocumentHash> documentHashes = new IdentityHashMap<>();
+
+        final List<CompletableFuture<Void>> results = new ArrayList<>(ordered.size());
+
+        for (final Proof proof : ordered) {
+
+            final DocumentHash documentHash = proof instanceof Ed25519Signature2020Proof
+                    ? documentHashes.computeIfAbsent(proof.cryptoSuite(), crypto -> new DocumentHash(crypto, data))
+                    : null;
+
+            results.add(run(() -> verify(proof, context, data, params, loader, documentHash)));
+        }
+
+        // examine results in chain order
+        for (final CompletableFuture<Void> result : results) {
+            await(result);
+        }
+
+        return proofs;
+    }
+
+    protected static void validate(final Proof proof, final Map<String, Object> params) throws DocumentError {
+
+        proof.validate(params);
+
+        if (proof.signature() == null) {
+            throw new DocumentError(ErrorType.Missing, "ProofValue");
+        }
+    }
+
+    protected void verify(final Proof proof, final JsonStructure context, final JsonObject data, final Map<String, Object> params, final DocumentLoader loader, final DocumentHash documentHash) throws VerificationError, DocumentError {
+
+        final VerificationMethod method = getMethod(proof, loader)
+                .orElseThrow(() -> new DocumentError(ErrorType.Missing, VcVocab.PROOF, DataIntegrityVocab.VERIFICATION_METHOD));
+
+        if (!(method instanceof VerificationKey)) {
+            throw new DocumentError(ErrorType.Unknown, VcVocab.PROOF, DataIntegrityVocab.VERIFICATION_METHOD);
+        }
+
+        if (documentHash != null) {
+            ((Ed25519Signature2020Proof) proof).verify(context, data, (VerificationKey) method, documentHash);
+            return;
+        }
+
+        proof.verify(context, data, (VerificationKey) method);
+    }
+
+    /**
+     * A document digest computed once, by the first requesting task on its own
+     * thread. Other tasks wait only for a task already running, never for a
+     * task queued to the executor.
+     */
+    protected static final class DocumentHash implements Supplier<CompletableFuture<byte[]>> {
+
+        final CryptoSuite crypto;
+        final JsonObject data;
+
+        final CompletableFuture<byte[]> hash;
+        final AtomicBoolean requested;
+
+        protected DocumentHash(final CryptoSuite crypto, final JsonObject data) {
+            this.crypto = crypto;
+            this.data = data;
+            this.hash = new CompletableFuture<>();
+            this.requested = new AtomicBoolean();
+        }
+
+        @Override
+        public CompletableFuture<byte[]> get() {
+            if (requested.compareAndSet(false, true)) {
+                try {
+                    hash.complete(crypto.digest(crypto.canonicalize(data)));
+
+                } catch (Throwable e) {
+                    hash.completeExceptionally(e);
+                }
+            }
+            return hash;
+        }
+    }
+
+    @FunctionalInterface
+    protected interface Task {
+        void run() throws VerificationError, DocumentError;
+    }
+
+    protected CompletableFuture<Void> run(final Task task) {
+
+        final CompletableFuture<Void> result = new CompletableFuture<>();
+
+        executor.execute(() -> {
+            try {
+                task.run();
+                result.complete(null);
+
+            } catch (Throwable e) {
+                result.completeExceptionally(e);
+            }
+        });
+
+        return result;
+    }
+
+    protected static void await(final CompletableFuture<Void> result) throws VerificationError, DocumentError {
+        try {
+            result.join();
+
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof VerificationError) {
+                throw (VerificationError) e.getCause();
+            }
+            if (e.getCause() instanceof DocumentError) {
+                throw (DocumentError) e.getCause();
+            }
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            if (e.getCause() instanceof Error) {
+                throw (Error) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Orders proofs so that each proof follows a proof it references as
+     * <code>previousProof</code>, the same rules as applied by
+     * {@link Verifier}.
+     *
+     * @param proofs proofs to order
+     * @return ordered proofs
+     * @throws DocumentError if a proof id is not unique or a previous proof is
+     *                       missing
+     */
+    protected static List<Proof> order(final Collection<Proof> proofs) throws DocumentError {
+
+        final LinkedList<Proof> remaining = new LinkedList<>(proofs);
+        final List<Proof> ordered = new ArrayList<>(proofs.size());
+        final Set<URI> ids = new HashSet<>();
+
+        while (!remaining.isEmpty()) {
+
+            Proof next = null;
+
+            for (final Proof proof : remaining) {
+                if (proof.previousProof() == null || ids.contains(proof.previousProof())) {
+                    next = proof;
+                    break;
+                }
+            }
+
+            if (next == null) {
+                throw new DocumentError(ErrorType.Invalid, "PreviousProofId");
+            }
+
+            if (next.id() != null && !ids.add(next.id())) {
+                throw new DocumentError(ErrorType.Invalid, "ProofId");
+            }
+
+            remaining.remove(next);
+            ordered.add(next);
+        }
+
+        return ordered;
+    }
+}
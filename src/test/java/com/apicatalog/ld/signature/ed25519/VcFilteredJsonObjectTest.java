@@ -0,0 +1,98 @@
+package com.apicatalog.ld.signature.ed25519;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.HashSet;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import jakarta.json.Json;
+import jakarta.json.JsonObject;
+import jakarta.json.JsonValue;
+
+@DisplayName("Filtered JSON Object")
+class VcFilteredJsonObjectTest {
+
+    static final String EXCLUDED = "https://w3id.org/security#proofValue";
+
+    static final JsonObject OBJECT = Json.createObjectBuilder()
+            .add("@type", Json.createArrayBuilder().add("https://w3id.org/security#Ed25519Signature2020"))
+            .add(EXCLUDED, Json.createArrayBuilder().add(Json.createObjectBuilder().add("@value", "z3FXQ")))
+            .add("string", "value")
+            .add("number", 42)
+            .add("boolean", true)
+            .add("null", JsonValue.NULL)
+            .build();
+
+    static Stream<JsonObject> objects() {
+        return Stream.of(
+                OBJECT,
+                Json.createObjectBuilder().add("a", 1).build(),
+                Json.createObjectBuilder().add(EXCLUDED, "z").build(),
+                JsonValue.EMPTY_JSON_OBJECT);
+    }
+
+    @DisplayName("Equivalent to a copy")
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("objects")
+    void equivalent(JsonObject object) {
+
+        final FilteredJsonObject filtered = new FilteredJsonObject(object, EXCLUDED);
+
+        final JsonObject copy = Json.createObjectBuilder(object).remove(EXCLUDED).build();
+
+        assertEquals(copy.size(), filtered.size());
+        assertEquals(copy.entrySet().size(), filtered.entrySet().size());
+        assertEquals(new HashSet<>(copy.entrySet()), new HashSet<>(filtered.entrySet()));
+        assertEquals(copy.keySet(), filtered.keySet());
+
+        for (final String key : object.keySet()) {
+            assertEquals(copy.get(key), filtered.get(key));
+            assertEquals(copy.containsKey(key), filtered.containsKey(key));
+        }
+
+        assertNull(filtered.get(EXCLUDED));
+        assertFalse(filtered.containsKey(EXCLUDED));
+        assertFalse(filtered.containsKey("missing"));
+
+        assertEquals(copy, filtered);
+        assertEquals(filtered, copy);
+        assertEquals(copy.hashCode(), filtered.hashCode());
+        assertEquals(copy.toString(), filtered.toString());
+    }
+
+    @DisplayName("Typed getters")
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("objects")
+    void getters(JsonObject object) {
+
+        final FilteredJsonObject filtered = new FilteredJsonObject(object, EXCLUDED);
+
+        final JsonObject copy = Json.createObjectBuilder(object).remove(EXCLUDED).build();
+
+        for (final String key : copy.keySet()) {
+            assertEquals(copy.isNull(key), filtered.isNull(key));
+            assertEquals(copy.getString(key, "default"), filtered.getString(key, "default"));
+            assertEquals(copy.getInt(key, -1), filtered.getInt(key, -1));
+            assertEquals(copy.getBoolean(key, false), filtered.getBoolean(key, false));
+        }
+
+        // missing and excluded keys behave as missing in the copy
+        for (final String key : new String[] { "missing", EXCLUDED }) {
+            assertThrows(NullPointerException.class, () -> copy.isNull(key));
+            assertThrows(NullPointerException.class, () -> filtered.isNull(key));
+            assertThrows(NullPointerException.class, () -> filtered.getString(key));
+            assertThrows(NullPointerException.class, () -> filtered.getInt(key));
+            assertThrows(NullPointerException.class, () -> filtered.getBoolean(key));
+            assertEquals("default", filtered.getString(key, "default"));
+            assertTrue(filtered.getBoolean(key, true));
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package com.apicatalog.vc;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.net.URI;
+import java.time.Instant;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.apicatalog.jsonld.loader.DocumentLoader;
+import com.apicatalog.jsonld.loader.SchemeRouter;
+import com.apicatalog.ld.signature.VerificationError;
+import com.apicatalog.ld.signature.ed25519.AsyncIssuer;
+import com.apicatalog.ld.signature.ed25519.AsyncVerifier;
+import com.apicatalog.ld.signature.ed25519.Ed25519ContextLoader;
+import com.apicatalog.ld.signature.ed25519.Ed25519Signature2020;
+import com.apicatalog.ld.signature.ed25519.Ed25519Signature2020Issuer;
+import com.apicatalog.ld.signature.ed25519.Ed25519Signature2020ProofDraft;
+import com.apicatalog.vc.verifier.Verifier;
+
+import jakarta.json.JsonObject;
+
+@DisplayName("Asynchronous API")
+class VcAsyncTest {
+
+    static final ExecutorService EXECUTOR = Executors.newFixedThreadPool(2);
+
+    static final Ed25519ContextLoader CONTEXTS = Ed25519ContextLoader.bundled(new SchemeRouter().set("classpath", new ClasspathLoader()));
+
+    static final DocumentLoader LOADER = new UriBaseRewriter(VcTestCase.BASE, "classpath:", CONTEXTS);
+
+    @AfterAll
+    static void shutdown() {
+        EXECUTOR.shutdown();
+    }
+
+    @DisplayName("Verify")
+    @Test
+    void verify() throws Throwable {
+
+        final AsyncVerifier verifier = new AsyncVerifier(
+                Verifier.with(new Ed25519Signature2020()).loader(LOADER).useBundledContexts(false),
+                CONTEXTS,
+                EXECUTOR);
+
+        assertNotNull(verifier.verify(VcTestRunnerJunit.read("verifier/0001-in.jsonld")).get(10, TimeUnit.SECONDS));
+
+        final ExecutionException e = assertThrows(ExecutionException.class,
+                () -> verifier.verify(VcTestRunnerJunit.read("verifier/0002-in.jsonld")).get(10, TimeUnit.SECONDS));
+
+        assertInstanceOf(VerificationError.class, e.getCause());
+        assertEquals(VerificationError.Code.InvalidSignature, ((VerificationError) e.getCause()).getCode());
+    }
+
+    @DisplayName("Sign")
+    @Test
+    void sign() throws Throwable {
+
+        try (final Ed25519Signature2020Issuer issuer = VcTestRunnerJunit.SUITE.createIssuer(
+                VcTestRunnerJunit.getKeys(URI.create(VcTestCase.BASE + "issuer/0001-keys.json"), LOADER))) {
+
+            issuer.loader(LOADER).useBundledContexts(false);
+
+            final AsyncIssuer async = new AsyncIssuer(issuer, CONTEXTS, EXECUTOR);
+
+            final Ed25519Signature2020ProofDraft draft = Ed25519Signature2020.createDraft(
+                    URI.create(VcTestCase.BASE + "verifier/0005-verification-key.json"),
+                    URI.create("https://w3id.org/security#assertionMethod"));
+
+            draft.created(Instant.parse("2022-05-28T17:02:05Z"));
+
+            final JsonObject signed = async.sign(VcTestRunnerJunit.read("issuer/0001-in.jsonld"), draft)
+                    .get(10, TimeUnit.SECONDS)
+                    .compacted();
+
+            assertNotNull(VcTestRunnerJunit.VERIFIER.verify(signed));
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.apicatalog.vc;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.apicatalog.ld.signature.ed25519.Base58Btc;
+import com.apicatalog.multibase.Multibase;
+
+@DisplayName("Base58btc")
+class VcBase58Test {
+
+    static final int[] LENGTHS = { 1, 2, 5, 31, 32, 33, 34, 63, 64, 65, 114 };
+
+    @DisplayName("Same as generic codec")
+    @Test
+    void compare() {
+
+        final Random random = new Random(0xed25519L);
+
+        for (final int length : LENGTHS) {
+            for (int zeros = 0; zeros <= Math.min(length, 3); zeros++) {
+                for (int n = 0; n < 50; n++) {
+
+                    final byte[] data = new byte[length];
+                    random.nextBytes(data);
+                    for (int i = 0; i < zeros; i++) {
+                        data[i] = 0;
+                    }
+
+                    final String expected = Multibase.BASE_58_BTC.encode(data);
+
+                    assertEquals(expected, Base58Btc.MULTIBASE.encode(data));
+                    assertArrayEquals(data, Base58Btc.MULTIBASE.decode(expected));
+                    assertArrayEquals(Multibase.BASE_58_BTC.decode(expected), Base58Btc.MULTIBASE.decode(expected));
+                }
+            }
+        }
+    }
+
+    @DisplayName("Extreme values")
+    @Test
+    void extremes() {
+        for (final int length : LENGTHS) {
+            final byte[] zeros = new byte[length];
+            final byte[] ones = new byte[length];
+            Arrays.fill(ones, (byte) 0xff);
+
+            assertEquals(Multibase.BASE_58_BTC.encode(zeros), Base58Btc.MULTIBASE.encode(zeros));
+            assertEquals(Multibase.BASE_58_BTC.encode(ones), Base58Btc.MULTIBASE.encode(ones));
+            assertArrayEquals(ones, Base58Btc.MULTIBASE.decode(Multibase.BASE_58_BTC.encode(ones)));
+        }
+        // the longest fast path input
+        final String max = "z" + "z".repeat(88);
+        assertArrayEquals(Multibase.BASE_58_BTC.decode(max), Base58Btc.MULTIBASE.decode(max));
+    }
+
+    @DisplayName("Invalid character")
+    @Test
+    void invalid() {
+        assertThrows(IllegalArgumentException.class, () -> Base58Btc.MULTIBASE.decode("z6Mk0"));
+        assertThrows(IllegalArgumentException.class, () -> Base58Btc.MULTIBASE.decode("z6MkĀ"));
+    }
+}
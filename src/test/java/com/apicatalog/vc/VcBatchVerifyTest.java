@@ -0,0 +1,119 @@
+package com.apicatalog.vc;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.apicatalog.ld.signature.SigningError;
+import com.apicatalog.ld.signature.VerificationError;
+import com.apicatalog.ld.signature.ed25519.BatchEntry;
+import com.apicatalog.ld.signature.ed25519.Ed25519Signature2020Provider;
+import com.apicatalog.ld.signature.ed25519.JavaSignatureProvider;
+
+@DisplayName("Batch Verification")
+class VcBatchVerifyTest {
+
+    // RFC 8032, 7.1. TEST 1
+    static final byte[] PRIVATE_KEY = HexFormat.of().parseHex("9d61b19deffd5a60ba844af492ec2cc44449c5697b326919703bac031cae7f60");
+    static final byte[] PUBLIC_KEY = HexFormat.of().parseHex("d75a980182b10ab7d54bfed3c964073a0ee172f3daa62325af021a68f707511a");
+
+    // R has an order 8 component, valid only if checked cofactored
+    static final byte[] MIXED_ORDER_DATA = HexFormat.of().parseHex("af82");
+    static final byte[] MIXED_ORDER_SIGNATURE = HexFormat.of().parseHex(
+            "7cfd76a1a96769182282ba41734d6ee4e73908a8b30c1d845ba892b04e95329a9a707dc10ed2d911d8c8371fc6531e70cb5bf1d5c742bc95ccb85bc6a01d170f");
+
+    static final Ed25519Signature2020Provider PROVIDER = new Ed25519Signature2020Provider();
+
+    static final Ed25519Signature2020Provider COFACTORED = new Ed25519Signature2020Provider(Ed25519Signature2020Provider.DEFAULT_ENGINE_STRATEGY, null, true);
+
+    @DisplayName("Valid signatures")
+    @Test
+    void verifyValid() throws SigningError {
+
+        final List<BatchEntry> batch = sign(150);
+
+        assertResult(batch, PROVIDER.verify(batch), -1, -1);
+    }
+
+    @DisplayName("Invalid signatures")
+    @Test
+    void verifyInvalid() throws SigningError {
+
+        final List<BatchEntry> batch = sign(100);
+
+        final BatchEntry tampered = batch.get(3);
+        final byte[] data = tampered.data().clone();
+        data[0] ^= 1;
+        batch.set(3, new BatchEntry(tampered.publicKey(), tampered.signature(), data));
+
+        final BatchEntry forged = batch.get(70);
+        final byte[] signature = forged.signature().clone();
+        signature[40] ^= 1;
+        batch.set(70, new BatchEntry(forged.publicKey(), signature, forged.data()));
+
+        assertResult(batch, PROVIDER.verify(batch), 3, 70);
+    }
+
+    @DisplayName("Mixed-order signature")
+    @Test
+    void verifyMixedOrder() throws SigningError, VerificationError {
+
+        final JavaSignatureProvider java = new JavaSignatureProvider();
+
+        // rejected by JCA, cofactorless
+        assertThrows(VerificationError.class, () -> PROVIDER.verify(PUBLIC_KEY, MIXED_ORDER_SIGNATURE, MIXED_ORDER_DATA));
+
+        // accepted alone if cofactored
+        COFACTORED.verify(PUBLIC_KEY, MIXED_ORDER_SIGNATURE, MIXED_ORDER_DATA);
+        java.verify(PUBLIC_KEY, MIXED_ORDER_SIGNATURE, MIXED_ORDER_DATA);
+
+        // and in a batch
+        final List<BatchEntry> batch = sign(10);
+        batch.add(5, new BatchEntry(PUBLIC_KEY, MIXED_ORDER_SIGNATURE, MIXED_ORDER_DATA));
+
+        assertResult(batch, COFACTORED.verify(batch), -1, -1);
+        assertResult(batch, java.verify(batch), -1, -1);
+
+        // a tampered one is rejected alone and in a batch
+        final byte[] data = MIXED_ORDER_DATA.clone();
+        data[0] ^= 1;
+
+        batch.set(5, new BatchEntry(PUBLIC_KEY, MIXED_ORDER_SIGNATURE, data));
+
+        assertThrows(VerificationError.class, () -> PROVIDER.verify(PUBLIC_KEY, MIXED_ORDER_SIGNATURE, data));
+        assertThrows(VerificationError.class, () -> COFACTORED.verify(PUBLIC_KEY, MIXED_ORDER_SIGNATURE, data));
+        assertThrows(VerificationError.class, () -> java.verify(PUBLIC_KEY, MIXED_ORDER_SIGNATURE, data));
+        assertResult(batch, PROVIDER.verify(batch), 5);
+        assertResult(batch, COFACTORED.verify(batch), 5);
+        assertResult(batch, java.verify(batch), 5);
+    }
+
+    static List<BatchEntry> sign(int count) throws SigningError {
+
+        final Random random = new Random(count);
+        final List<BatchEntry> batch = new ArrayList<>(count);
+
+        for (int i = 0; i < count; i++) {
+            final byte[] data = new byte[i + 1];
+            random.nextBytes(data);
+            batch.add(new BatchEntry(PUBLIC_KEY, PROVIDER.sign(PRIVATE_KEY, data), data));
+        }
+        return batch;
+    }
+
+    static void assertResult(List<BatchEntry> batch, boolean[] result, int... invalid) {
+        assertEquals(batch.size(), result.length);
+        for (int i = 0; i < result.length; i++) {
+            final int index = i;
+            assertEquals(IntStream.of(invalid).noneMatch(x -> x == index), result[i], "Entry " + i);
+        }
+    }
+}
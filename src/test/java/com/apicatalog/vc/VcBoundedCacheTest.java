@@ -0,0 +1,138 @@
+package com.apicatalog.vc;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.nio.ByteBuffer;
+import java.security.PublicKey;
+import java.util.HexFormat;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.apicatalog.ld.signature.VerificationError;
+import com.apicatalog.ld.signature.ed25519.BoundedCache;
+import com.apicatalog.ld.signature.ed25519.Ed25519Signature2020Provider;
+
+@DisplayName("Bounded Cache")
+class VcBoundedCacheTest {
+
+    // RFC 8032, 7.1. TEST 3
+    static final byte[] PUBLIC_KEY = HexFormat.of().parseHex("fc51cd8e6218a1a38da47ed00230f0580816ed13ba3303ac5deb911548908025");
+    static final byte[] DATA = HexFormat.of().parseHex("af82");
+    static final byte[] SIGNATURE = HexFormat.of().parseHex(
+            "6291d657deec24024827e69c3abe01a30ce548a284743a445e3680d7db5ac3ac18ff9b538d16f290ae67f760984dc6594a7c15e9716ed28dc027beceea1ec40a");
+
+    @DisplayName("Insertion order")
+    @Test
+    void evictFifo() {
+
+        final BoundedCache<String, String> cache = new BoundedCache<>(2, BoundedCache.Eviction.FIFO);
+
+        cache.put("a", "A");
+        cache.put("b", "B");
+        cache.put("c", "C");
+
+        assertNull(cache.get("a"));
+        assertEquals("B", cache.get("b"));
+        assertEquals("C", cache.get("c"));
+        assertEquals(1, cache.evictions());
+    }
+
+    @DisplayName("Removed and put again")
+    @Test
+    void evictRemoved() {
+
+        final BoundedCache<String, String> cache = new BoundedCache<>(2, BoundedCache.Eviction.FIFO);
+
+        for (int i = 0; i < 3; i++) {
+            cache.put("a", "A");
+            cache.remove("a");
+        }
+
+        cache.put("a", "A");
+        cache.put("b", "B");
+        cache.put("c", "C");
+
+        // the oldest, a removed key is queued once
+        cache.put("a", "A");
+
+        assertEquals("A", cache.get("a"));
+        assertNull(cache.get("b"));
+        assertEquals("C", cache.get("c"));
+        assertEquals(2, cache.size());
+        assertEquals(2, cache.evictions());
+    }
+
+    @DisplayName("Replaced")
+    @Test
+    void evictReplaced() {
+
+        final BoundedCache<String, String> cache = new BoundedCache<>(2, BoundedCache.Eviction.FIFO);
+
+        cache.put("a", "A");
+        cache.put("b", "B");
+        cache.put("a", "A2");
+        cache.put("c", "C");
+
+        assertEquals("A2", cache.get("a"));
+        assertNull(cache.get("b"));
+        assertEquals("C", cache.get("c"));
+    }
+
+    @DisplayName("Replaced repeatedly")
+    @Test
+    void evictReplacedRepeatedly() {
+
+        final BoundedCache<String, String> cache = new BoundedCache<>(2, BoundedCache.Eviction.FIFO);
+
+        // stale entries are purged once they outnumber the capacity
+        for (int i = 0; i < 1000; i++) {
+            cache.put("a", "A" + i);
+            cache.put("b", "B" + i);
+        }
+
+        cache.put("c", "C");
+
+        assertNull(cache.get("a"));
+        assertEquals("B999", cache.get("b"));
+        assertEquals("C", cache.get("c"));
+        assertEquals(1, cache.evictions());
+    }
+
+    @DisplayName("Public key cache")
+    @Test
+    void publicKeyCache() throws VerificationError {
+
+        final BoundedCache<ByteBuffer, PublicKey> keys = new BoundedCache<>(16);
+
+        final Ed25519Signature2020Provider provider = new Ed25519Signature2020Provider(keys);
+
+        provider.verify(PUBLIC_KEY, SIGNATURE, DATA);
+
+        assertEquals(1, keys.size());
+        assertEquals(0, keys.hits());
+        assertEquals(1, keys.misses());
+
+        provider.verify(PUBLIC_KEY, SIGNATURE, DATA);
+        provider.verify(ByteBuffer.wrap(PUBLIC_KEY), ByteBuffer.wrap(SIGNATURE), ByteBuffer.wrap(DATA));
+
+        assertEquals(1, keys.size());
+        assertEquals(2, keys.hits());
+        assertEquals(1, keys.misses());
+
+        keys.clear();
+
+        // a buffer key is looked up once
+        provider.verify(ByteBuffer.allocateDirect(32).put(PUBLIC_KEY).flip(), ByteBuffer.wrap(SIGNATURE), ByteBuffer.wrap(DATA));
+
+        assertEquals(1, keys.size());
+        assertEquals(2, keys.hits());
+        assertEquals(2, keys.misses());
+
+        provider.verify(PUBLIC_KEY, SIGNATURE, DATA);
+
+        assertEquals(3, keys.hits());
+        assertEquals(2, keys.misses());
+    }
+}
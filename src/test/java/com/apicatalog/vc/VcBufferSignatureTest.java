@@ -0,0 +1,147 @@
+package com.apicatalog.vc;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.nio.ByteBuffer;
+import java.util.HexFormat;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import com.apicatalog.ld.signature.SigningError;
+import com.apicatalog.ld.signature.VerificationError;
+import com.apicatalog.ld.signature.ed25519.BufferSignatureAlgorithm;
+import com.apicatalog.ld.signature.ed25519.Ed25519PreparedSigner;
+import com.apicatalog.ld.signature.ed25519.Ed25519Signature2020Provider;
+import com.apicatalog.ld.signature.ed25519.JavaSignatureProvider;
+
+@DisplayName("Buffer Signatures")
+class VcBufferSignatureTest {
+
+    // RFC 8032, 7.1. TEST 3
+    static final byte[] PRIVATE_KEY = HexFormat.of().parseHex("c5aa8df43f9f837bedb7442f31dcb7b166d38535076f094b85ce3a2e0b4458f7");
+    static final byte[] PUBLIC_KEY = HexFormat.of().parseHex("fc51cd8e6218a1a38da47ed00230f0580816ed13ba3303ac5deb911548908025");
+    static final byte[] DATA = HexFormat.of().parseHex("af82");
+    static final byte[] SIGNATURE = HexFormat.of().parseHex(
+            "6291d657deec24024827e69c3abe01a30ce548a284743a445e3680d7db5ac3ac18ff9b538d16f290ae67f760984dc6594a7c15e9716ed28dc027beceea1ec40a");
+
+    // RFC 8032, 7.1. TEST 1, an empty message
+    static final byte[] EMPTY_PRIVATE_KEY = HexFormat.of().parseHex("9d61b19deffd5a60ba844af492ec2cc44449c5697b326919703bac031cae7f60");
+    static final byte[] EMPTY_PUBLIC_KEY = HexFormat.of().parseHex("d75a980182b10ab7d54bfed3c964073a0ee172f3daa62325af021a68f707511a");
+    static final byte[] EMPTY_SIGNATURE = HexFormat.of().parseHex(
+            "e5564300c360ac729086e2cc806e828a84877f1eb8e5d974d873e065224901555fb8821590a33bacc61e39701cf9b46bd25bf5f0595bbe24655141438e7a100b");
+
+    static Stream<BufferSignatureAlgorithm> providers() {
+        return Stream.of(new JavaSignatureProvider(), new Ed25519Signature2020Provider());
+    }
+
+    @DisplayName("Array slices")
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("providers")
+    void slices(final BufferSignatureAlgorithm provider) throws SigningError {
+
+        final byte[] data = embed(DATA, 5, 3);
+        final byte[] key = embed(PUBLIC_KEY, 1, 7);
+        final byte[] signature = embed(SIGNATURE, 11, 2);
+
+        assertArrayEquals(SIGNATURE, provider.sign(PRIVATE_KEY, data, 5, DATA.length));
+        assertDoesNotThrow(() -> provider.verify(key, 1, signature, 11, data, 5, DATA.length));
+
+        signature[20] ^= 1;
+        assertThrows(VerificationError.class, () -> provider.verify(key, 1, signature, 11, data, 5, DATA.length));
+
+        assertThrows(IndexOutOfBoundsException.class, () -> provider.sign(PRIVATE_KEY, data, 5, data.length));
+    }
+
+    @DisplayName("Byte buffers")
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("providers")
+    void buffers(final BufferSignatureAlgorithm provider) throws SigningError, VerificationError {
+
+        for (final boolean direct : new boolean[] { false, true }) {
+
+            final ByteBuffer data = buffer(DATA, direct);
+            final ByteBuffer key = buffer(PUBLIC_KEY, direct);
+            final ByteBuffer signature = direct ? ByteBuffer.allocateDirect(70) : ByteBuffer.allocate(70);
+
+            signature.position(3);
+
+            provider.sign(PRIVATE_KEY, data, signature);
+
+            assertEquals(67, signature.position());
+            assertEquals(2, data.position());
+
+            signature.flip().position(3);
+
+            provider.verify(key, signature, data);
+
+            assertEquals(2, data.position());
+            assertEquals(1, key.position());
+            assertEquals(3, signature.position());
+
+            final byte[] bytes = new byte[64];
+            signature.get(3, bytes);
+            assertArrayEquals(SIGNATURE, bytes);
+
+            signature.put(10, (byte) (signature.get(10) ^ 1));
+            assertThrows(VerificationError.class, () -> provider.verify(key, signature, data));
+        }
+    }
+
+    @DisplayName("Empty data")
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("providers")
+    void empty(final BufferSignatureAlgorithm provider) throws SigningError, VerificationError {
+
+        for (final boolean direct : new boolean[] { false, true }) {
+
+            final ByteBuffer data = direct ? ByteBuffer.allocateDirect(0) : ByteBuffer.allocate(0);
+            final ByteBuffer signature = ByteBuffer.allocate(64);
+
+            provider.sign(EMPTY_PRIVATE_KEY, data, signature);
+
+            assertArrayEquals(EMPTY_SIGNATURE, signature.array());
+
+            provider.verify(ByteBuffer.wrap(EMPTY_PUBLIC_KEY), signature.flip(), data);
+            provider.verify(EMPTY_PUBLIC_KEY, 0, EMPTY_SIGNATURE, 0, new byte[3], 1, 0);
+        }
+    }
+
+    @DisplayName("Prepared signer")
+    @Test
+    void preparedSigner() throws SigningError {
+        try (final Ed25519PreparedSigner signer = new Ed25519PreparedSigner(PRIVATE_KEY)) {
+
+            assertArrayEquals(SIGNATURE, signer.sign(embed(DATA, 4, 4), 4, DATA.length));
+
+            final ByteBuffer signature = ByteBuffer.allocateDirect(64);
+            signer.sign(buffer(DATA, true), signature);
+
+            assertEquals(64, signature.position());
+            assertEquals(SIGNATURE.length, signature.flip().remaining());
+            assertEquals(ByteBuffer.wrap(SIGNATURE), signature);
+        }
+    }
+
+    static byte[] embed(final byte[] data, final int offset, final int padding) {
+        final byte[] array = new byte[offset + data.length + padding];
+        System.arraycopy(data, 0, array, offset, data.length);
+        return array;
+    }
+
+    // a buffer having the data from position 2, or 1 if a key
+    static ByteBuffer buffer(final byte[] data, final boolean direct) {
+        final int offset = data.length == 32 ? 1 : 2;
+        final ByteBuffer buffer = direct
+                ? ByteBuffer.allocateDirect(offset + data.length + 3)
+                : ByteBuffer.allocate(offset + data.length + 3);
+        buffer.position(offset).put(data).flip().position(offset);
+        return buffer;
+    }
+}
@@ -0,0 +1,88 @@
+package com.apicatalog.vc;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.net.URI;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.apicatalog.ld.signature.ed25519.BulkIssuer;
+import com.apicatalog.ld.signature.ed25519.Ed25519Signature2020;
+import com.apicatalog.ld.signature.ed25519.Ed25519Signature2020Issuer;
+
+import jakarta.json.Json;
+import jakarta.json.JsonObject;
+import jakarta.json.JsonValue;
+
+@DisplayName("Bulk Issuer")
+class VcBulkIssuerTest {
+
+    static final URI KEYS = URI.create(VcTestCase.BASE + "issuer/0001-keys.json");
+    static final URI METHOD = URI.create(VcTestCase.BASE + "verifier/0005-verification-key.json");
+    static final URI PURPOSE = URI.create("https://w3id.org/security#assertionMethod");
+
+    @DisplayName("Ordered results")
+    @Test
+    void signOrdered() throws Throwable {
+
+        final JsonObject input = VcTestRunnerJunit.read("issuer/0001-in.jsonld");
+
+        final ExecutorService executor = Executors.newFixedThreadPool(4);
+
+        try (final Ed25519Signature2020Issuer issuer = VcTestRunnerJunit.SUITE.createIssuer(VcTestRunnerJunit.getKeys(KEYS, VcTestRunnerJunit.LOADER))) {
+
+            issuer.loader(VcTestRunnerJunit.LOADER);
+
+            final BulkIssuer bulk = new BulkIssuer(issuer, executor, 4);
+
+            // distinct documents, every fifth document is invalid
+            final Stream<JsonObject> documents = IntStream.range(0, 20)
+                    .mapToObj(i -> i % 5 == 3
+                            ? JsonValue.EMPTY_JSON_OBJECT
+                            : Json.createObjectBuilder(input).add("id", id(i)).build());
+
+            final List<BulkIssuer.Result> results = bulk
+                    .sign(documents, Ed25519Signature2020.createDraft(METHOD, PURPOSE))
+                    .collect(Collectors.toList());
+
+            assertEquals(20, results.size());
+
+            for (int i = 0; i < results.size(); i++) {
+
+                final BulkIssuer.Result result = results.get(i);
+
+                assertEquals(i, result.index());
+
+                if (i % 5 == 3) {
+                    assertFalse(result.isIssued());
+                    continue;
+                }
+
+                assertTrue(result.isIssued());
+                assertEquals(id(i), result.signed().getString("id"));
+                assertNotNull(VcTestRunnerJunit.VERIFIER.verify(result.signed()));
+            }
+
+            assertEquals(16, bulk.issued());
+            assertEquals(4, bulk.failed());
+            assertTrue(bulk.throughput() > 0);
+
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    static String id(int index) {
+        return "https://apicatalog/com/vc/test-credentials#bulk-" + index;
+    }
+}
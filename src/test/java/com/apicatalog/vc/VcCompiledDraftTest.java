@@ -0,0 +1,109 @@
+package com.apicatalog.vc;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.net.URI;
+import java.time.Instant;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.apicatalog.jsonld.JsonLdError;
+import com.apicatalog.ld.DocumentError;
+import com.apicatalog.ld.signature.SigningError;
+import com.apicatalog.ld.signature.VerificationError;
+import com.apicatalog.ld.signature.ed25519.Ed25519Signature2020;
+import com.apicatalog.ld.signature.ed25519.Ed25519Signature2020CompiledDraft;
+import com.apicatalog.ld.signature.ed25519.Ed25519Signature2020Issuer;
+import com.apicatalog.ld.signature.ed25519.Ed25519Signature2020ProofDraft;
+
+@DisplayName("Compiled Proof Draft")
+class VcCompiledDraftTest {
+
+    static final URI INPUT = URI.create(VcTestCase.BASE + "issuer/0001-in.jsonld");
+    static final URI KEYS = URI.create(VcTestCase.BASE + "issuer/0001-keys.json");
+    static final URI METHOD = URI.create(VcTestCase.BASE + "verifier/0005-verification-key.json");
+    static final URI PURPOSE = URI.create("https://w3id.org/security#assertionMethod");
+
+    @DisplayName("Same proof as a draft")
+    @Test
+    void signCreated() throws SigningError, DocumentError, JsonLdError {
+
+        final Instant created = Instant.parse("2022-05-28T17:02:05Z");
+
+        final Ed25519Signature2020ProofDraft draft = Ed25519Signature2020.createDraft(METHOD, PURPOSE);
+        draft.created(created);
+
+        final Ed25519Signature2020CompiledDraft compiled = draft.compile();
+
+        assertTrue(compiled.isPrecomputed());
+
+        try (final Ed25519Signature2020Issuer issuer = VcTestRunnerJunit.SUITE.createIssuer(VcTestRunnerJunit.getKeys(KEYS, VcTestRunnerJunit.LOADER))) {
+
+            issuer.loader(VcTestRunnerJunit.LOADER);
+
+            assertEquals(
+                    issuer.sign(INPUT, draft).expanded(),
+                    issuer.sign(INPUT, compiled).expanded());
+        }
+    }
+
+    @DisplayName("Non ASCII proof options")
+    @Test
+    void signNonAscii() throws SigningError, DocumentError, JsonLdError {
+
+        final Ed25519Signature2020ProofDraft draft = Ed25519Signature2020.createDraft(METHOD, PURPOSE);
+        draft.created(Instant.parse("2022-05-28T17:02:05Z"));
+        draft.domain("\uFF44\uFF4F\uFF4D\uFF41\uFF49\uFF4E");
+        draft.challenge("\uE000\uFFFD");
+
+        assertTrue(draft.compile().isPrecomputed());
+
+        assertSameProof(draft);
+    }
+
+    @DisplayName("Supplementary characters")
+    @Test
+    void signSupplementary() throws SigningError, DocumentError, JsonLdError {
+
+        final Ed25519Signature2020ProofDraft draft = Ed25519Signature2020.createDraft(METHOD, PURPOSE);
+        draft.created(Instant.parse("2022-05-28T17:02:05Z"));
+        draft.domain("\uD83D\uDD11");
+        draft.challenge("\uFFFD");
+
+        // not in the UTF-16 order of the canonicalizer, canonicalized each time
+        assertFalse(draft.compile().isPrecomputed());
+
+        assertSameProof(draft);
+    }
+
+    @DisplayName("Repeated issuance")
+    @Test
+    void signRepeated() throws SigningError, DocumentError, VerificationError, JsonLdError {
+
+        final Ed25519Signature2020CompiledDraft compiled = Ed25519Signature2020.createDraft(METHOD, PURPOSE).compile();
+
+        try (final Ed25519Signature2020Issuer issuer = VcTestRunnerJunit.SUITE.createIssuer(VcTestRunnerJunit.getKeys(KEYS, VcTestRunnerJunit.LOADER))) {
+
+            issuer.loader(VcTestRunnerJunit.LOADER);
+
+            for (int i = 0; i < 3; i++) {
+                assertNotNull(VcTestRunnerJunit.VERIFIER.verify(issuer.sign(INPUT, compiled).compacted()));
+            }
+        }
+    }
+
+    static void assertSameProof(final Ed25519Signature2020ProofDraft draft) throws SigningError, DocumentError, JsonLdError {
+        try (final Ed25519Signature2020Issuer issuer = VcTestRunnerJunit.SUITE.createIssuer(VcTestRunnerJunit.getKeys(KEYS, VcTestRunnerJunit.LOADER))) {
+
+            issuer.loader(VcTestRunnerJunit.LOADER);
+
+            assertEquals(
+                    issuer.sign(INPUT, draft).expanded(),
+                    issuer.sign(INPUT, draft.compile()).expanded());
+        }
+    }
+}
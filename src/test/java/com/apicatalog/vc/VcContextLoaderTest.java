@@ -0,0 +1,364 @@
+package com.apicatalog.vc;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.apicatalog.jsonld.JsonLdError;
+import com.apicatalog.jsonld.document.Document;
+import com.apicatalog.jsonld.document.JsonDocument;
+import com.apicatalog.jsonld.loader.DocumentLoader;
+import com.apicatalog.jsonld.loader.DocumentLoaderOptions;
+import com.apicatalog.ld.signature.ed25519.DiskContextCache;
+import com.apicatalog.ld.signature.ed25519.Ed25519ContextLoader;
+
+import jakarta.json.Json;
+import jakarta.json.JsonObject;
+
+@DisplayName("Context Loader")
+class VcContextLoaderTest {
+
+    static final URI CONTEXT = URI.create("classpath:/com/apicatalog/vc/context.jsonld");
+
+    static final URI MISSING = URI.create("classpath:/com/apicatalog/vc/missing.jsonld");
+
+    @DisplayName("Cached document")
+    @Test
+    void loadCached() throws JsonLdError {
+
+        final CountingLoader counter = new CountingLoader(new ClasspathLoader(), null);
+
+        final DocumentLoader loader = new Ed25519ContextLoader(counter);
+
+        final Document document = loader.loadDocument(CONTEXT, Ed25519ContextLoader.contextOptions());
+
+        assertSame(document, loader.loadDocument(CONTEXT, Ed25519ContextLoader.contextOptions()));
+        assertEquals(1, counter.calls.get());
+    }
+
+    @DisplayName("Documents other than contexts are not cached")
+    @Test
+    void loadNotContext() throws JsonLdError {
+
+        final CountingLoader counter = new CountingLoader(new ClasspathLoader(), null);
+
+        final DocumentLoader loader = new Ed25519ContextLoader(counter);
+
+        // e.g. a verification method
+        loader.loadDocument(CONTEXT, new DocumentLoaderOptions());
+        loader.loadDocument(CONTEXT, new DocumentLoaderOptions());
+        assertEquals(2, counter.calls.get());
+
+        final DocumentLoaderOptions options = Ed25519ContextLoader.contextOptions();
+        options.setExtractAllScripts(true);
+
+        // options are a part of the key
+        loader.loadDocument(CONTEXT, Ed25519ContextLoader.contextOptions());
+        loader.loadDocument(CONTEXT, options);
+        loader.loadDocument(CONTEXT, options);
+        assertEquals(4, counter.calls.get());
+    }
+
+    @DisplayName("Cached failure")
+    @Test
+    void loadFailure() {
+
+        final CountingLoader counter = new CountingLoader(new ClasspathLoader(), null);
+
+        final DocumentLoader loader = new Ed25519ContextLoader(counter);
+
+        assertThrows(JsonLdError.class, () -> loader.loadDocument(MISSING, Ed25519ContextLoader.contextOptions()));
+        assertThrows(JsonLdError.class, () -> loader.loadDocument(MISSING, Ed25519ContextLoader.contextOptions()));
+        assertEquals(1, counter.calls.get());
+    }
+
+    @DisplayName("No cache")
+    @Test
+    void loadUncached() throws JsonLdError {
+
+        final CountingLoader counter = new CountingLoader(new ClasspathLoader(), null);
+
+        final DocumentLoader loader = new Ed25519ContextLoader(counter).cache(null).failureTtl(null);
+
+        loader.loadDocument(CONTEXT, Ed25519ContextLoader.contextOptions());
+        loader.loadDocument(CONTEXT, Ed25519ContextLoader.contextOptions());
+        assertEquals(2, counter.calls.get());
+    }
+
+    @DisplayName("Concurrent misses")
+    @Test
+    void loadConcurrent() throws Exception {
+
+        final CountDownLatch latch = new CountDownLatch(1);
+
+        final CountingLoader counter = new CountingLoader(new ClasspathLoader(), latch);
+
+        final DocumentLoader loader = new Ed25519ContextLoader(counter).cache(16, Duration.ofMinutes(1));
+
+        final ExecutorService executor = Executors.newFixedThreadPool(4);
+
+        try {
+            final Future<?>[] futures = new Future<?>[4];
+
+            for (int i = 0; i < futures.length; i++) {
+                futures[i] = executor.submit(() -> loader.loadDocument(CONTEXT, Ed25519ContextLoader.contextOptions()));
+            }
+
+            // let all the threads reach the loader
+            Thread.sleep(100);
+            latch.countDown();
+
+            final Object document = futures[0].get(10, TimeUnit.SECONDS);
+
+            for (final Future<?> future : futures) {
+                assertSame(document, future.get(10, TimeUnit.SECONDS));
+            }
+
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(1, counter.calls.get());
+    }
+
+    @DisplayName("Concurrent asynchronous misses")
+    @Test
+    void loadAsync() throws Exception {
+
+        final CountDownLatch latch = new CountDownLatch(1);
+
+        final CountingLoader counter = new CountingLoader(new ClasspathLoader(), latch);
+
+        final Ed25519ContextLoader loader = new Ed25519ContextLoader(counter);
+
+        final ExecutorService executor = Executors.newSingleThreadExecutor();
+
+        try {
+            final CompletableFuture<Document> first = loader.loadDocumentAsync(CONTEXT, Ed25519ContextLoader.contextOptions(), executor);
+            final CompletableFuture<Document> second = loader.loadDocumentAsync(CONTEXT, Ed25519ContextLoader.contextOptions(), executor);
+
+            assertSame(first, second);
+
+            latch.countDown();
+
+            assertSame(first.get(10, TimeUnit.SECONDS), loader.loadDocument(CONTEXT, Ed25519ContextLoader.contextOptions()));
+
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(1, counter.calls.get());
+    }
+
+    @DisplayName("Rejected asynchronous load")
+    @Test
+    void loadAsyncRejected() throws Exception {
+
+        final CountingLoader counter = new CountingLoader(new ClasspathLoader(), null);
+
+        final Ed25519ContextLoader loader = new Ed25519ContextLoader(counter);
+
+        final Executor rejecting = task -> {
+            throw new RejectedExecutionException();
+        };
+
+        final CompletableFuture<Document> rejected = loader.loadDocumentAsync(CONTEXT, Ed25519ContextLoader.contextOptions(), rejecting);
+
+        final ExecutionException e = assertThrows(ExecutionException.class, () -> rejected.get(10, TimeUnit.SECONDS));
+        assertInstanceOf(RejectedExecutionException.class, e.getCause());
+
+        // not left as a load in progress
+        final Document document = assertTimeoutPreemptively(Duration.ofSeconds(10),
+                () -> loader.loadDocument(CONTEXT, Ed25519ContextLoader.contextOptions()));
+
+        assertNotNull(document);
+        assertEquals(1, counter.calls.get());
+    }
+
+    @DisplayName("Bundled contexts")
+    @Test
+    void loadBundled() throws JsonLdError {
+
+        final CountingLoader counter = new CountingLoader(new ClasspathLoader(), null);
+
+        final DocumentLoader loader = Ed25519ContextLoader.bundled(counter);
+
+        for (final String url : Ed25519ContextLoader.bundledContexts()) {
+            assertTrue(loader.loadDocument(URI.create(url), Ed25519ContextLoader.contextOptions()).getJsonContent().isPresent());
+        }
+
+        final Document expected = JsonDocument.of(getClass().getResourceAsStream("/com/apicatalog/vc/2018-credentials-v1.jsonld"));
+
+        assertEquals(expected.getJsonContent(),
+                loader.loadDocument(URI.create("https://www.w3.org/2018/credentials/v1"), Ed25519ContextLoader.contextOptions()).getJsonContent());
+
+        assertEquals(0, counter.calls.get());
+    }
+
+    @DisplayName("Unknown bundled context")
+    @Test
+    void selectUnknown() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new Ed25519ContextLoader(new ClasspathLoader(), Arrays.asList("https://example.org/context/v1")));
+    }
+
+    @DisplayName("Prefetch")
+    @Test
+    void prefetch() throws Exception {
+
+        final CountingLoader counter = new CountingLoader(new ClasspathLoader(), null);
+
+        final Ed25519ContextLoader loader = new Ed25519ContextLoader(counter);
+
+        final JsonObject document = Json.createObjectBuilder()
+                .add("@context", Json.createArrayBuilder()
+                        .add(CONTEXT.toString())
+                        .add("not a URI")
+                        .add(Json.createObjectBuilder().add("name", "https://schema.org/name")))
+                .build();
+
+        loader.prefetch(document, Runnable::run).get(10, TimeUnit.SECONDS);
+
+        assertEquals(1, counter.calls.get());
+
+        loader.loadDocument(CONTEXT, Ed25519ContextLoader.contextOptions());
+
+        assertEquals(1, counter.calls.get());
+    }
+
+    @DisplayName("Prefetch without caches")
+    @Test
+    void prefetchUncached() throws Exception {
+
+        final CountingLoader counter = new CountingLoader(new ClasspathLoader(), null);
+
+        final Ed25519ContextLoader loader = new Ed25519ContextLoader(counter).cache(null);
+
+        loader.prefetch(Json.createObjectBuilder().add("@context", CONTEXT.toString()).build(), Runnable::run)
+                .get(10, TimeUnit.SECONDS);
+
+        // a prefetched context would not be kept
+        assertEquals(0, counter.calls.get());
+    }
+
+    @DisplayName("Disk cache warm restart")
+    @Test
+    void loadPersisted(@TempDir Path directory) throws JsonLdError, IOException {
+
+        final CountingLoader counter = new CountingLoader(new ClasspathLoader(), null);
+
+        final Document document = new Ed25519ContextLoader(counter)
+                .diskCache(new DiskContextCache(directory, 1024 * 1024))
+                .loadDocument(CONTEXT, Ed25519ContextLoader.contextOptions());
+
+        // a new process
+        final Ed25519ContextLoader loader = new Ed25519ContextLoader(counter)
+                .diskCache(new DiskContextCache(directory, 1024 * 1024));
+
+        assertEquals(1, loader.diskCache().size());
+        assertEquals(document.getJsonContent(), loader.loadDocument(CONTEXT, Ed25519ContextLoader.contextOptions()).getJsonContent());
+        assertEquals(1, counter.calls.get());
+    }
+
+    @DisplayName("Disk cache eviction")
+    @Test
+    void evictPersisted(@TempDir Path directory) throws JsonLdError, IOException {
+
+        final DiskContextCache disk = new DiskContextCache(directory, 1);
+
+        final DocumentLoader loader = new Ed25519ContextLoader(new ClasspathLoader()).diskCache(disk);
+
+        loader.loadDocument(CONTEXT, Ed25519ContextLoader.contextOptions());
+        loader.loadDocument(URI.create("classpath:/com/apicatalog/vc/security-context.jsonld"), Ed25519ContextLoader.contextOptions());
+
+        assertEquals(1, disk.size());
+        assertEquals(1, new DiskContextCache(directory, 1).size());
+    }
+
+    @DisplayName("Disk cache expiration")
+    @Test
+    void expirePersisted(@TempDir Path directory) throws JsonLdError, IOException, InterruptedException {
+
+        final DiskContextCache disk = new DiskContextCache(directory, 1024 * 1024, Duration.ofMillis(50));
+
+        disk.put(CONTEXT.toString(), new ClasspathLoader().loadDocument(CONTEXT, Ed25519ContextLoader.contextOptions()));
+
+        assertNotNull(disk.get(CONTEXT.toString()));
+
+        Thread.sleep(100);
+
+        assertEquals(0, new DiskContextCache(directory, 1024 * 1024).size());
+        assertNull(disk.get(CONTEXT.toString()));
+        assertEquals(0, disk.size());
+    }
+
+    @DisplayName("Disk cache index escaping")
+    @Test
+    void escapePersisted(@TempDir Path directory) throws JsonLdError, IOException {
+
+        final String url = "https://example.org/a\tb\nc%09 extractAllScripts";
+
+        final Document document = new ClasspathLoader().loadDocument(CONTEXT, Ed25519ContextLoader.contextOptions());
+        document.setDocumentUrl(URI.create("https://example.org/%0A"));
+
+        new DiskContextCache(directory, 1024 * 1024).put(url, document);
+
+        final DiskContextCache disk = new DiskContextCache(directory, 1024 * 1024);
+
+        assertEquals(1, disk.size());
+        assertEquals(document.getJsonContent(), disk.get(url).getJsonContent());
+        assertEquals(URI.create("https://example.org/%0A"), disk.get(url).getDocumentUrl());
+        assertNull(disk.get("https://example.org/a"));
+    }
+
+    static class CountingLoader implements DocumentLoader {
+
+        final DocumentLoader loader;
+        final CountDownLatch latch;
+        final AtomicInteger calls;
+
+        CountingLoader(DocumentLoader loader, CountDownLatch latch) {
+            this.loader = loader;
+            this.latch = latch;
+            this.calls = new AtomicInteger();
+        }
+
+        @Override
+        public Document loadDocument(URI url, DocumentLoaderOptions options) throws JsonLdError {
+            calls.incrementAndGet();
+            if (latch != null) {
+                try {
+                    latch.await(10, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            return loader.loadDocument(url, options);
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package com.apicatalog.vc;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import com.apicatalog.ld.signature.SigningError;
+import com.apicatalog.ld.signature.VerificationError;
+import com.apicatalog.ld.signature.ed25519.Ed25519Signature2020Provider;
+import com.apicatalog.ld.signature.ed25519.EngineStrategy;
+import com.apicatalog.ld.signature.ed25519.JavaSignatureProvider;
+
+@DisplayName("Engine Strategy")
+class VcEngineStrategyTest {
+
+    // RFC 8032, 7.1. TEST 1
+    static final byte[] PRIVATE_KEY = HexFormat.of().parseHex("9d61b19deffd5a60ba844af492ec2cc44449c5697b326919703bac031cae7f60");
+    static final byte[] PUBLIC_KEY = HexFormat.of().parseHex("d75a980182b10ab7d54bfed3c964073a0ee172f3daa62325af021a68f707511a");
+
+    static final JavaSignatureProvider JAVA = new JavaSignatureProvider();
+
+    @DisplayName("Sign and verify")
+    @ParameterizedTest(name = "{0}")
+    @EnumSource(EngineStrategy.class)
+    void signVerify(EngineStrategy strategy) throws Exception {
+
+        final Ed25519Signature2020Provider provider = new Ed25519Signature2020Provider(strategy, null);
+
+        final ExecutorService executor = Executors.newFixedThreadPool(4);
+
+        try {
+            final List<Future<?>> results = new ArrayList<>();
+
+            for (int thread = 0; thread < 4; thread++) {
+                final int seed = thread;
+                results.add(executor.submit(() -> {
+                    try {
+                        run(provider, seed);
+
+                    } catch (SigningError | VerificationError e) {
+                        // not an Exception, cannot be thrown by a Callable
+                        throw new IllegalStateException(e);
+                    }
+                    return null;
+                }));
+            }
+
+            for (final Future<?> result : results) {
+                result.get(30, TimeUnit.SECONDS);
+            }
+
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Failed operations are interleaved with successful ones on the same
+     * thread, an engine left in an unknown state by a failure must be dropped,
+     * never reused by the next operation.
+     */
+    static void run(Ed25519Signature2020Provider provider, int seed) throws SigningError, VerificationError {
+
+        for (int i = 0; i < 50; i++) {
+
+            final byte[] data = new byte[seed + i];
+            for (int j = 0; j < data.length; j++) {
+                data[j] = (byte) (j * seed + i);
+            }
+
+            final byte[] expected = JAVA.sign(PRIVATE_KEY, data);
+
+            if (i % 5 == 1) {
+                // an invalid key, fails after an engine is acquired
+                assertThrows(SigningError.class, () -> provider.sign(new byte[31], data));
+            }
+
+            if (i % 5 == 2) {
+                final byte[] tampered = expected.clone();
+                tampered[7] ^= 1;
+                assertThrows(VerificationError.class, () -> provider.verify(PUBLIC_KEY, tampered, data));
+            }
+
+            if (i % 5 == 3) {
+                // the data are consumed before the signature is rejected
+                final byte[] tampered = expected.clone();
+                tampered[40] ^= 1;
+                assertThrows(VerificationError.class, () -> provider.verify(ByteBuffer.wrap(PUBLIC_KEY), ByteBuffer.wrap(tampered), ByteBuffer.wrap(data)));
+            }
+
+            assertArrayEquals(expected, provider.sign(PRIVATE_KEY, data));
+
+            provider.verify(PUBLIC_KEY, expected, data);
+            provider.verify(ByteBuffer.wrap(PUBLIC_KEY), ByteBuffer.wrap(expected), ByteBuffer.wrap(data));
+        }
+    }
+}
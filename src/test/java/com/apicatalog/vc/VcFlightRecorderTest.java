@@ -0,0 +1,74 @@
+package com.apicatalog.vc;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.apicatalog.ld.DocumentError;
+import com.apicatalog.ld.signature.VerificationError;
+import com.apicatalog.ld.signature.ed25519.Ed25519Signature2020;
+import com.apicatalog.vc.verifier.Verifier;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+@DisplayName("Flight Recorder")
+class VcFlightRecorderTest {
+
+    static final String PREFIX = "com.apicatalog.ld.signature.ed25519.";
+
+    @DisplayName("Verification events")
+    @Test
+    void verify() throws VerificationError, DocumentError, IOException {
+
+        final Verifier verifier = Verifier.with(new Ed25519Signature2020()).loader(VcTestRunnerJunit.LOADER);
+
+        final Path file = Files.createTempFile("ed25519", ".jfr");
+
+        try (final Recording recording = new Recording()) {
+
+            recording.enable(PREFIX + "ProofParse");
+            recording.enable(PREFIX + "ProofVerify");
+            recording.enable(PREFIX + "ContextLoad");
+            recording.start();
+
+            assertNotNull(verifier.verify(URI.create(VcTestCase.BASE + "verifier/0001-in.jsonld")));
+
+            recording.stop();
+            recording.dump(file);
+
+            final List<RecordedEvent> events = RecordingFile.readAllEvents(file).stream()
+                    .filter(event -> event.getEventType().getName().startsWith(PREFIX))
+                    .collect(Collectors.toList());
+
+            assertTrue(events.stream().anyMatch(event -> event.getEventType().getName().equals(PREFIX + "ProofParse")
+                    && "OK".equals(event.getString("outcome"))));
+
+            assertTrue(events.stream().anyMatch(event -> event.getEventType().getName().equals(PREFIX + "ProofVerify")
+                    && "OK".equals(event.getString("outcome"))
+                    && event.getString("method").endsWith("0005-verification-key.json")
+                    && !event.getBoolean("cached")));
+
+            final List<RecordedEvent> loads = events.stream()
+                    .filter(event -> event.getEventType().getName().equals(PREFIX + "ContextLoad"))
+                    .collect(Collectors.toList());
+
+            assertFalse(loads.isEmpty());
+            assertTrue(loads.stream().allMatch(event -> event.getString("url") != null && event.getString("source") != null));
+
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+}
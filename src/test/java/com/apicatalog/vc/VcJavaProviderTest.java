@@ -0,0 +1,184 @@
+package com.apicatalog.vc;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.security.GeneralSecurityException;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.interfaces.EdECPrivateKey;
+import java.security.interfaces.EdECPublicKey;
+import java.security.spec.EdECPoint;
+import java.util.HexFormat;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.apicatalog.ld.signature.KeyGenError;
+import com.apicatalog.ld.signature.SigningError;
+import com.apicatalog.ld.signature.VerificationError;
+import com.apicatalog.ld.signature.algorithm.SignatureAlgorithm;
+import com.apicatalog.ld.signature.ed25519.Ed25519PreparedSigner;
+import com.apicatalog.ld.signature.ed25519.Ed25519Signature2020;
+import com.apicatalog.ld.signature.ed25519.Ed25519Signature2020Issuer;
+import com.apicatalog.ld.signature.ed25519.Ed25519Signature2020Provider;
+import com.apicatalog.ld.signature.ed25519.JavaSignatureProvider;
+
+import jakarta.json.JsonObject;
+
+@DisplayName("Pure Java Provider")
+class VcJavaProviderTest {
+
+    static final JavaSignatureProvider JAVA = new JavaSignatureProvider();
+    static final Ed25519Signature2020Provider NATIVE = new Ed25519Signature2020Provider();
+
+    // RFC 8032, 7.1. TEST 3
+    static final byte[] PRIVATE_KEY = HexFormat.of().parseHex("c5aa8df43f9f837bedb7442f31dcb7b166d38535076f094b85ce3a2e0b4458f7");
+    static final byte[] PUBLIC_KEY = HexFormat.of().parseHex("fc51cd8e6218a1a38da47ed00230f0580816ed13ba3303ac5deb911548908025");
+    static final byte[] DATA = HexFormat.of().parseHex("af82");
+    static final byte[] SIGNATURE = HexFormat.of().parseHex(
+            "6291d657deec24024827e69c3abe01a30ce548a284743a445e3680d7db5ac3ac18ff9b538d16f290ae67f760984dc6594a7c15e9716ed28dc027beceea1ec40a");
+
+    @DisplayName("RFC 8032 test vector")
+    @Test
+    void testVector() throws SigningError {
+        assertArrayEquals(SIGNATURE, JAVA.sign(PRIVATE_KEY, DATA));
+        assertDoesNotThrow(() -> JAVA.verify(PUBLIC_KEY, SIGNATURE, DATA));
+    }
+
+    @DisplayName("Native compatibility")
+    @Test
+    void compatibility() throws GeneralSecurityException, SigningError, VerificationError {
+
+        final Random random = new Random(4);
+
+        final KeyPairGenerator generator = KeyPairGenerator.getInstance("Ed25519");
+
+        for (int i = 0; i < 100; i++) {
+
+            final KeyPair keyPair = generator.generateKeyPair();
+
+            final byte[] privateKey = ((EdECPrivateKey) keyPair.getPrivate()).getBytes().orElseThrow();
+            final byte[] publicKey = encode(((EdECPublicKey) keyPair.getPublic()).getPoint());
+
+            final byte[] data = new byte[i];
+            random.nextBytes(data);
+
+            final byte[] signature = JAVA.sign(privateKey, data);
+
+            assertArrayEquals(NATIVE.sign(privateKey, data), signature);
+
+            JAVA.verify(publicKey, signature, data);
+            NATIVE.verify(publicKey, signature, data);
+        }
+    }
+
+    @DisplayName("Prepared signer")
+    @Test
+    void preparedSigner() throws SigningError {
+
+        final Ed25519PreparedSigner signer = new Ed25519PreparedSigner(PRIVATE_KEY);
+
+        assertArrayEquals(PUBLIC_KEY, signer.publicKey());
+        assertArrayEquals(SIGNATURE, signer.sign(DATA));
+        assertArrayEquals(SIGNATURE, signer.sign(DATA));
+
+        signer.close();
+
+        assertTrue(signer.isClosed());
+        assertThrows(SigningError.class, () -> signer.sign(DATA));
+    }
+
+    @DisplayName("Invalid signature")
+    @Test
+    void invalid() throws SigningError {
+
+        final byte[] signature = SIGNATURE.clone();
+        signature[10] ^= 1;
+
+        assertThrows(VerificationError.class, () -> JAVA.verify(PUBLIC_KEY, signature, DATA));
+
+        final byte[] data = DATA.clone();
+        data[0] ^= 1;
+
+        assertThrows(VerificationError.class, () -> JAVA.verify(PUBLIC_KEY, SIGNATURE, data));
+    }
+
+    @DisplayName("Non-canonical S")
+    @Test
+    void nonCanonical() {
+
+        final byte[] signature = SIGNATURE.clone();
+
+        // S + L
+        int carry = 0;
+        final byte[] l = HexFormat.of().parseHex("edd3f55c1a631258d69cf7a2def9de1400000000000000000000000000000010");
+        for (int i = 0; i < 32; i++) {
+            final int sum = (signature[32 + i] & 0xFF) + (l[i] & 0xFF) + carry;
+            signature[32 + i] = (byte) sum;
+            carry = sum >>> 8;
+        }
+
+        assertEquals(0, carry);
+        assertThrows(VerificationError.class, () -> JAVA.verify(PUBLIC_KEY, signature, DATA));
+    }
+
+    @DisplayName("Issuer with a custom algorithm")
+    @Test
+    void customIssuer() throws Throwable {
+
+        final AtomicInteger signatures = new AtomicInteger();
+
+        final Ed25519Signature2020 suite = new Ed25519Signature2020(new SignatureAlgorithm() {
+
+            @Override
+            public byte[] sign(byte[] privateKey, byte[] data) throws SigningError {
+                signatures.incrementAndGet();
+                return JAVA.sign(privateKey, data);
+            }
+
+            @Override
+            public void verify(byte[] publicKey, byte[] signature, byte[] data) throws VerificationError {
+                JAVA.verify(publicKey, signature, data);
+            }
+
+            @Override
+            public com.apicatalog.ld.signature.key.KeyPair keygen() throws KeyGenError {
+                return JAVA.keygen();
+            }
+        });
+
+        try (final Ed25519Signature2020Issuer issuer = suite.createIssuer(VcTestRunnerJunit.getKeys(VcBulkIssuerTest.KEYS, VcTestRunnerJunit.LOADER))) {
+
+            issuer.loader(VcTestRunnerJunit.LOADER);
+
+            final JsonObject signed = issuer.sign(
+                    VcTestRunnerJunit.read("issuer/0001-in.jsonld"),
+                    Ed25519Signature2020.createDraft(VcBulkIssuerTest.METHOD, VcBulkIssuerTest.PURPOSE).compile())
+                    .compacted();
+
+            assertEquals(1, signatures.get());
+            assertNotNull(VcTestRunnerJunit.VERIFIER.verify(signed));
+        }
+    }
+
+    static byte[] encode(EdECPoint point) {
+
+        final byte[] y = point.getY().toByteArray();
+        final byte[] encoded = new byte[32];
+
+        for (int i = 0; i < Math.min(32, y.length); i++) {
+            encoded[i] = y[y.length - 1 - i];
+        }
+        if (point.isXOdd()) {
+            encoded[31] |= (byte) 0x80;
+        }
+        return encoded;
+    }
+}
@@ -1,30 +1,81 @@
 package com.apicatalog.vc;
 
-import org.junit.jupiter.api.Disabled;
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.MethodOrderer.OrderAnnotation;
 import org.junit.jupiter.api.Order;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestMethodOrder;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
 
 import com.apicatalog.ld.signature.KeyGenError;
+import com.apicatalog.ld.signature.SigningError;
+import com.apicatalog.ld.signature.ed25519.Ed25519KeyAdapter;
+import com.apicatalog.ld.signature.ed25519.Ed25519KeyPair2020;
+import com.apicatalog.ld.signature.ed25519.Ed25519Signature2020Provider;
+import com.apicatalog.ld.signature.key.KeyPair;
 
 @DisplayName("Keys Generation")
 @TestMethodOrder(OrderAnnotation.class)
 class VcKeyGenTest {
 
+    static final Ed25519Signature2020Provider PROVIDER = new Ed25519Signature2020Provider();
+
     @DisplayName("Data Integrity")
     @Order(1)
-    @Disabled
     @Test
-    void generate32L() throws KeyGenError {
-//        KeyPair kp = Vc.generateKeys("https://w3id.org/security#Ed25519KeyPair2020").get(URI.create("urn:1"), 256);
-//        assertNotNull(kp);
-//        assertEquals("urn:1", kp.id());
-//        assertEquals("https://w3id.org/security#Ed25519KeyPair2020", kp.type());
-//        assertNotNull(kp.publicKey());
-//        assertNotNull(kp.privateKey());
-//        assertEquals(32, kp.publicKey().length);
-//        assertEquals(32, kp.privateKey().length);
+    void generate32L() throws KeyGenError, SigningError {
+        KeyPair kp = PROVIDER.keygen();
+        assertNotNull(kp);
+        assertNotNull(kp.id());
+        assertTrue(kp.id().toString().startsWith("did:key:z6Mk"));
+        assertEquals(kp.controller() + "#" + kp.controller().toString().substring("did:key:".length()), kp.id().toString());
+        assertEquals(Ed25519KeyAdapter.KEY_PAIR_TYPE_URI, kp.type());
+        assertNotNull(kp.publicKey());
+        assertNotNull(kp.privateKey());
+        assertEquals(32, kp.publicKey().length);
+        assertEquals(32, kp.privateKey().length);
+
+        final byte[] data = new byte[] { 1, 2, 3 };
+        final byte[] signature = PROVIDER.sign(kp.privateKey(), data);
+        assertDoesNotThrow(() -> PROVIDER.verify(kp.publicKey(), signature, data));
+    }
+
+    @DisplayName("Bulk")
+    @Order(2)
+    @Test
+    void generateBulk() throws SigningError {
+        final List<Ed25519KeyPair2020> keys = PROVIDER.keygen(100);
+        assertEquals(100, keys.size());
+
+        final Set<String> ids = new HashSet<>();
+
+        for (final Ed25519KeyPair2020 kp : keys) {
+            assertTrue(ids.add(kp.id().toString()));
+            assertEquals(32, kp.publicKey().length);
+            assertEquals(32, kp.privateKey().length);
+
+            final byte[] data = kp.id().toString().getBytes();
+            final byte[] signature = PROVIDER.sign(kp.privateKey(), data);
+            assertDoesNotThrow(() -> PROVIDER.verify(kp.publicKey(), signature, data));
+        }
+    }
+
+    @DisplayName("Invalid count")
+    @Order(3)
+    @ParameterizedTest(name = "{0}")
+    @ValueSource(ints = { 0, -1, Integer.MIN_VALUE, Integer.MAX_VALUE / 32 + 1, Integer.MAX_VALUE })
+    void generateInvalidCount(int count) {
+        assertThrows(IllegalArgumentException.class, () -> PROVIDER.keygen(count));
     }
 }
@@ -0,0 +1,79 @@
+package com.apicatalog.vc;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.net.URI;
+import java.time.Instant;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.apicatalog.jsonld.JsonLd;
+import com.apicatalog.jsonld.JsonLdError;
+import com.apicatalog.jsonld.document.JsonDocument;
+import com.apicatalog.ld.DocumentError;
+import com.apicatalog.ld.signature.ed25519.Ed25519Signature2020;
+import com.apicatalog.ld.signature.ed25519.Ed25519Signature2020Proof;
+import com.apicatalog.vc.loader.StaticContextLoader;
+import com.apicatalog.vc.proof.Proof;
+
+import jakarta.json.Json;
+import jakarta.json.JsonObject;
+
+@DisplayName("Lazy Proof")
+class VcLazyProofTest {
+
+    static final Ed25519Signature2020 SUITE = new Ed25519Signature2020();
+
+    @DisplayName("Fields read on demand")
+    @Test
+    void readOnDemand() throws JsonLdError, DocumentError {
+
+        final Ed25519Signature2020Proof proof = (Ed25519Signature2020Proof) SUITE.getProof(proof(null), VcTestRunnerJunit.LOADER);
+
+        assertEquals(URI.create("https://github.com/filip26/iron-verifiable-credentials/verifier/0005-verification-key.json"), proof.method().id());
+        assertEquals(Instant.parse("2022-06-04T20:33:01Z"), proof.created());
+        assertEquals(64, proof.signature().toByteArray().length);
+
+        proof.validate(null);
+    }
+
+    @DisplayName("Malformed proof value")
+    @Test
+    void malformedValue() throws JsonLdError, DocumentError {
+
+        final Proof proof = SUITE.getProof(proof("zInvalid0OIl"), VcTestRunnerJunit.LOADER);
+
+        assertNotNull(proof.method());
+        assertNull(proof.signature());
+
+        assertThrows(DocumentError.class, () -> proof.validate(null));
+    }
+
+    static JsonObject proof(final String proofValue) throws JsonLdError {
+
+        JsonObject document = JsonDocument.of(VcLazyProofTest.class.getResourceAsStream("verifier/0001-in.jsonld"))
+                .getJsonContent()
+                .orElseThrow()
+                .asJsonObject();
+
+        if (proofValue != null) {
+            document = Json.createObjectBuilder(document)
+                    .add("proof", Json.createObjectBuilder(document.getJsonObject("proof"))
+                            .add("proofValue", proofValue))
+                    .build();
+        }
+
+        return JsonLd.expand(JsonDocument.of(document))
+                .loader(new StaticContextLoader(VcTestRunnerJunit.LOADER))
+                .get()
+                .getJsonObject(0)
+                .getJsonArray("https://w3id.org/security#proof")
+                .getJsonObject(0)
+                .getJsonArray("@graph")
+                .getJsonObject(0);
+    }
+}
@@ -0,0 +1,87 @@
+package com.apicatalog.vc;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.net.URI;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.apicatalog.jsonld.JsonLdError;
+import com.apicatalog.jsonld.loader.DocumentLoader;
+import com.apicatalog.jsonld.loader.SchemeRouter;
+import com.apicatalog.ld.DocumentError;
+import com.apicatalog.ld.signature.VerificationError;
+import com.apicatalog.ld.signature.ed25519.Ed25519ContextLoader;
+import com.apicatalog.ld.signature.ed25519.Ed25519Signature2020;
+import com.apicatalog.ld.signature.ed25519.LatencyHistogram;
+import com.apicatalog.ld.signature.ed25519.MetricsListener.Cache;
+import com.apicatalog.ld.signature.ed25519.MetricsListener.Stage;
+import com.apicatalog.ld.signature.ed25519.MetricsRecorder;
+import com.apicatalog.ld.signature.ed25519.ParallelVerifier;
+import com.apicatalog.vc.verifier.Verifier;
+
+@DisplayName("Metrics")
+class VcMetricsTest {
+
+    @DisplayName("Verification stages")
+    @Test
+    void verify() throws VerificationError, DocumentError, JsonLdError {
+
+        final MetricsRecorder metrics = new MetricsRecorder();
+
+        final DocumentLoader loader = new UriBaseRewriter(VcTestCase.BASE, "classpath:",
+                new Ed25519ContextLoader(new SchemeRouter().set("classpath", new ClasspathLoader()))
+                        .metrics(metrics));
+
+        final Verifier verifier = ParallelVerifier.with(Runnable::run, Ed25519Signature2020.builder().metrics(metrics).build())
+                .metrics(metrics)
+                .loader(loader);
+
+        assertNotNull(verifier.verify(URI.create(VcTestCase.BASE + "verifier/0001-in.jsonld")));
+        assertNotNull(verifier.verify(URI.create(VcTestCase.BASE + "verifier/0001-in.jsonld")));
+
+        assertEquals(2, metrics.count(Stage.EXPANSION));
+        assertEquals(2, metrics.count(Stage.SIGNATURE_VERIFICATION));
+        assertEquals(0, metrics.count(Stage.SIGNING));
+
+        assertTrue(metrics.count(Stage.CANONICALIZATION) >= 2);
+        assertTrue(metrics.bytes(Stage.CANONICALIZATION) > 0);
+        assertTrue(metrics.count(Stage.DIGEST) >= 2);
+
+        // documents and verification methods are loaded each time, not cached
+        assertTrue(metrics.count(Stage.CONTEXT_LOADING) >= 4);
+        assertEquals(0, metrics.hits(Cache.CONTEXT));
+
+        loader.loadDocument(URI.create(VcTestCase.BASE + "context.jsonld"), Ed25519ContextLoader.contextOptions());
+        loader.loadDocument(URI.create(VcTestCase.BASE + "context.jsonld"), Ed25519ContextLoader.contextOptions());
+
+        assertEquals(1, metrics.hits(Cache.CONTEXT));
+        assertEquals(1, metrics.misses(Cache.CONTEXT));
+
+        assertTrue(metrics.durations(Stage.SIGNATURE_VERIFICATION).percentile(50) > 0);
+    }
+
+    @DisplayName("Histogram percentiles")
+    @Test
+    void histogram() {
+
+        final LatencyHistogram histogram = new LatencyHistogram();
+
+        for (long i = 1; i <= 100_000; i++) {
+            histogram.record(i * 1000);
+        }
+
+        assertEquals(100_000, histogram.count());
+        assertEquals(100_000_000, histogram.max());
+        assertEquals(100_000_000, histogram.percentile(100));
+
+        final long p50 = histogram.percentile(50);
+        final long p99 = histogram.percentile(99);
+
+        assertTrue(Math.abs(p50 - 50_000_000) <= 50_000_000 / 32, Long.toString(p50));
+        assertTrue(Math.abs(p99 - 99_000_000) <= 99_000_000 / 32, Long.toString(p99));
+    }
+}
@@ -0,0 +1,120 @@
+package com.apicatalog.vc;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.apicatalog.jsonld.JsonLdError;
+import com.apicatalog.jsonld.loader.DocumentLoader;
+import com.apicatalog.ld.DocumentError;
+import com.apicatalog.ld.signature.VerificationError;
+import com.apicatalog.ld.signature.ed25519.NdjsonVerifier;
+import com.apicatalog.vc.Verifiable;
+import com.apicatalog.vc.verifier.Verifier;
+
+import jakarta.json.JsonObject;
+
+@DisplayName("NDJSON Verifier")
+class VcNdjsonVerifierTest {
+
+    @DisplayName("Per line results")
+    @Test
+    void verifyLines() throws IOException, JsonLdError {
+
+        final String input = VcTestRunnerJunit.read("verifier/0001-in.jsonld") + "\n"
+                + VcTestRunnerJunit.read("verifier/0002-in.jsonld") + "\n"
+                + "\n"
+                + "{ not a json\n"
+                + VcTestRunnerJunit.read("verifier/0001-in.jsonld");
+
+        final ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        final NdjsonVerifier.Summary summary = new NdjsonVerifier(VcTestRunnerJunit.VERIFIER).verify(
+                new ByteArrayInputStream(input.getBytes(StandardCharsets.UTF_8)),
+                output);
+
+        assertEquals(new NdjsonVerifier.Summary(4, 2, 2), summary);
+
+        assertEquals("{\"line\":1,\"verified\":true}\n"
+                + "{\"line\":2,\"verified\":false,\"error\":\"InvalidSignature\"}\n"
+                + "{\"line\":4,\"verified\":false,\"error\":\"" + NdjsonVerifier.MALFORMED + "\"}\n"
+                + "{\"line\":5,\"verified\":true}\n",
+                output.toString(StandardCharsets.UTF_8));
+    }
+
+    @DisplayName("Malformed lines")
+    @Test
+    void verifyMalformed() throws IOException {
+
+        final String input = "[]\n"
+                + "42\n"
+                + "\"text\"\n"
+                + "{\"a\":\n"
+                + "\uFFFF\n";
+
+        final ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        final NdjsonVerifier.Summary summary = new NdjsonVerifier(VcTestRunnerJunit.VERIFIER).verify(
+                new ByteArrayInputStream(input.getBytes(StandardCharsets.UTF_8)),
+                output);
+
+        assertEquals(new NdjsonVerifier.Summary(5, 0, 5), summary);
+
+        final StringBuilder expected = new StringBuilder();
+        for (int i = 1; i <= 5; i++) {
+            expected.append("{\"line\":").append(i).append(",\"verified\":false,\"error\":\"" + NdjsonVerifier.MALFORMED + "\"}\n");
+        }
+        assertEquals(expected.toString(), output.toString(StandardCharsets.UTF_8));
+    }
+
+    @DisplayName("Failing lines")
+    @Test
+    void verifyFailing() throws IOException, JsonLdError {
+
+        // fails unexpectedly on documents having a property
+        final Verifier verifier = new Verifier(VcTestRunnerJunit.SUITE) {
+            @Override
+            protected Verifiable verify(JsonObject document, Map<String, Object> params, DocumentLoader loader) throws VerificationError, DocumentError {
+                if (document.containsKey("fail")) {
+                    throw new IllegalStateException();
+                }
+                return super.verify(document, params, loader);
+            }
+        }.loader(VcTestRunnerJunit.LOADER);
+
+        final String input = "{\"fail\":true}\n"
+                + VcTestRunnerJunit.read("verifier/0001-in.jsonld") + "\n"
+                + "{\"fail\":true}\n"
+                + VcTestRunnerJunit.read("verifier/0001-in.jsonld");
+
+        final ExecutorService executor = Executors.newFixedThreadPool(2);
+
+        try {
+            final ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+            final NdjsonVerifier.Summary summary = new NdjsonVerifier(verifier, executor, 2).verify(
+                    new ByteArrayInputStream(input.getBytes(StandardCharsets.UTF_8)),
+                    output);
+
+            assertEquals(new NdjsonVerifier.Summary(4, 2, 2), summary);
+
+            assertEquals("{\"line\":1,\"verified\":false,\"error\":\"" + NdjsonVerifier.UNKNOWN + "\"}\n"
+                    + "{\"line\":2,\"verified\":true}\n"
+                    + "{\"line\":3,\"verified\":false,\"error\":\"" + NdjsonVerifier.UNKNOWN + "\"}\n"
+                    + "{\"line\":4,\"verified\":true}\n",
+                    output.toString(StandardCharsets.UTF_8));
+
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,151 @@
+package com.apicatalog.vc;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import com.apicatalog.jsonld.JsonLdError;
+import com.apicatalog.ld.DocumentError;
+import com.apicatalog.ld.signature.VerificationError;
+import com.apicatalog.ld.signature.ed25519.Ed25519Signature2020;
+import com.apicatalog.ld.signature.ed25519.ParallelVerifier;
+import com.apicatalog.vc.verifier.Verifier;
+
+import jakarta.json.Json;
+import jakarta.json.JsonArrayBuilder;
+import jakarta.json.JsonObject;
+
+@DisplayName("Parallel Verifier")
+class VcParallelVerifierTest {
+
+    static final ExecutorService EXECUTOR = Executors.newFixedThreadPool(4);
+
+    @AfterAll
+    static void shutdown() {
+        EXECUTOR.shutdown();
+    }
+
+    @DisplayName("Proof set")
+    @Test
+    void verifyProofSet() throws VerificationError, DocumentError {
+
+        final AtomicInteger tasks = new AtomicInteger();
+
+        final Executor executor = task -> {
+            tasks.incrementAndGet();
+            EXECUTOR.execute(task);
+        };
+
+        final Verifier verifier = ParallelVerifier.with(executor, new Ed25519Signature2020())
+                .loader(VcTestRunnerJunit.LOADER);
+
+        assertNotNull(verifier.verify(URI.create(VcTestCase.BASE + "verifier/0004-in.jsonld")));
+
+        // two proofs, a shared document digest is computed by the first one
+        assertEquals(2, tasks.get());
+    }
+
+    @DisplayName("Proof set on a pool smaller than the set")
+    @ParameterizedTest(name = "{0} threads")
+    @ValueSource(ints = { 1, 2 })
+    void verifyOnSmallPool(int threads) {
+
+        final ExecutorService executor = Executors.newFixedThreadPool(threads);
+
+        try {
+            final Verifier verifier = ParallelVerifier.with(executor, new Ed25519Signature2020())
+                    .loader(VcTestRunnerJunit.LOADER);
+
+            assertTimeoutPreemptively(Duration.ofSeconds(30),
+                    () -> assertNotNull(verifier.verify(URI.create(VcTestCase.BASE + "verifier/0004-in.jsonld"))));
+
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @DisplayName("Proof set with a dangling previous proof")
+    @Test
+    void verifyDanglingPreviousProof() throws JsonLdError {
+
+        final JsonObject document = VcTestRunnerJunit.read("verifier/0004-in.jsonld");
+
+        final JsonObject dangling = proofSet(document,
+                Json.createObjectBuilder(document.getJsonArray("proof").getJsonObject(0))
+                        .add("https://w3id.org/security#previousProof", Json.createObjectBuilder()
+                                .add("@id", "urn:uuid:d4d1ab4a-0b86-4a5c-a1c4-c67e7dd18b5f"))
+                        .build(),
+                document.getJsonArray("proof").getJsonObject(1));
+
+        assertEquals("InvalidPreviousProofId", outcome(VcTestRunnerJunit.VERIFIER, dangling));
+        assertEquals("InvalidPreviousProofId", outcome(ParallelVerifier.with(EXECUTOR, new Ed25519Signature2020()).loader(VcTestRunnerJunit.LOADER), dangling));
+    }
+
+    @DisplayName("Proof set with duplicate proof ids")
+    @Test
+    void verifyDuplicateProofIds() throws JsonLdError {
+
+        final JsonObject document = VcTestRunnerJunit.read("verifier/0004-in.jsonld");
+
+        final JsonObject duplicate = proofSet(document,
+                Json.createObjectBuilder(document.getJsonArray("proof").getJsonObject(0))
+                        .add("id", "urn:uuid:3f6fa5f0-5a0c-4c4f-a3c5-1b8e0e7d3d1a")
+                        .build(),
+                Json.createObjectBuilder(document.getJsonArray("proof").getJsonObject(1))
+                        .add("id", "urn:uuid:3f6fa5f0-5a0c-4c4f-a3c5-1b8e0e7d3d1a")
+                        .build());
+
+        // rejected by both, the sequential verifier fails on the first proof signature
+        assertNotEquals("OK", outcome(VcTestRunnerJunit.VERIFIER, duplicate));
+        assertEquals("InvalidProofId", outcome(ParallelVerifier.with(EXECUTOR, new Ed25519Signature2020()).loader(VcTestRunnerJunit.LOADER), duplicate));
+    }
+
+    @DisplayName("Proof set with a forged proof")
+    @Test
+    void verifyForgedProofSet() {
+
+        final Verifier verifier = ParallelVerifier.with(EXECUTOR, new Ed25519Signature2020())
+                .loader(VcTestRunnerJunit.LOADER);
+
+        final VerificationError error = assertThrows(VerificationError.class,
+                () -> verifier.verify(URI.create(VcTestCase.BASE + "verifier/0005-in.jsonld")));
+
+        assertEquals(VerificationError.Code.InvalidSignature, error.getCode());
+    }
+
+    static JsonObject proofSet(final JsonObject document, final JsonObject... proofs) {
+        final JsonArrayBuilder proofSet = Json.createArrayBuilder();
+        for (final JsonObject proof : proofs) {
+            proofSet.add(proof);
+        }
+        return Json.createObjectBuilder(document).add("proof", proofSet).build();
+    }
+
+    static String outcome(final Verifier verifier, final JsonObject document) {
+        try {
+            verifier.verify(document);
+            return "OK";
+
+        } catch (VerificationError e) {
+            return e.getCode().name();
+
+        } catch (DocumentError e) {
+            return e.getCode();
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package com.apicatalog.vc;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.Arrays;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.apicatalog.jsonld.JsonLdError;
+import com.apicatalog.jsonld.document.JsonDocument;
+import com.apicatalog.jsonld.loader.DocumentLoader;
+import com.apicatalog.ld.DocumentError;
+import com.apicatalog.ld.signature.VerificationError;
+import com.apicatalog.ld.signature.ed25519.Base58Btc;
+import com.apicatalog.ld.signature.ed25519.Ed25519Signature2020;
+import com.apicatalog.ld.signature.ed25519.MetricsListener.Stage;
+import com.apicatalog.ld.signature.ed25519.MetricsRecorder;
+import com.apicatalog.ld.signature.ed25519.ParallelVerifier;
+import com.apicatalog.multicodec.codec.KeyCodec;
+import com.apicatalog.vc.verifier.Verifier;
+
+import jakarta.json.Json;
+import jakarta.json.JsonObject;
+
+@DisplayName("Fail-fast Checks")
+class VcPrecheckTest {
+
+    static final String METHOD = "https://github.com/filip26/iron-verifiable-credentials/verifier/0005-verification-key.json";
+
+    @DisplayName("Non canonical signature")
+    @Test
+    void nonCanonicalSignature() throws JsonLdError {
+
+        final JsonObject document = VcTestRunnerJunit.read("verifier/0001-in.jsonld");
+        final JsonObject proof = document.getJsonObject("proof");
+
+        final byte[] signature = Base58Btc.MULTIBASE.decode(proof.getString("proofValue"));
+
+        // S >= L
+        Arrays.fill(signature, 32, 64, (byte) 0xFF);
+
+        final JsonObject tampered = Json.createObjectBuilder(document)
+                .add("proof", Json.createObjectBuilder(proof)
+                        .add("proofValue", Base58Btc.MULTIBASE.encode(signature)))
+                .build();
+
+        final MetricsRecorder metrics = new MetricsRecorder();
+
+        final Verifier verifier = Verifier.with(Ed25519Signature2020.builder().metrics(metrics).build())
+                .loader(VcTestRunnerJunit.LOADER);
+
+        assertThrows(VerificationError.class, () -> verifier.verify(tampered));
+        assertEquals(0, metrics.count(Stage.CANONICALIZATION));
+    }
+
+    @DisplayName("Public key not on the curve")
+    @Test
+    void invalidPublicKeyPoint() throws JsonLdError {
+
+        // y >= p
+        final byte[] publicKey = new byte[32];
+        Arrays.fill(publicKey, (byte) 0xFF);
+        publicKey[31] = 0x7F;
+
+        assertPublicKeyRejected(publicKey, VerificationError.class);
+    }
+
+    @DisplayName("Public key length")
+    @Test
+    void invalidPublicKeyLength() throws JsonLdError {
+
+        final byte[] publicKey = new byte[31];
+        Arrays.fill(publicKey, (byte) 0x01);
+
+        assertPublicKeyRejected(publicKey, DocumentError.class);
+    }
+
+    static void assertPublicKeyRejected(final byte[] publicKey, final Class<? extends Throwable> error) throws JsonLdError {
+
+        final JsonObject document = VcTestRunnerJunit.read("verifier/0001-in.jsonld");
+
+        final JsonObject key = Json.createObjectBuilder()
+                .add("@context", "https://w3id.org/security/suites/ed25519-2020/v1")
+                .add("id", METHOD)
+                .add("type", "Ed25519VerificationKey2020")
+                .add("controller", "https://github.com/filip26/iron-verifiable-credentials/issuer/1")
+                .add("publicKeyMultibase", Base58Btc.MULTIBASE.encode(KeyCodec.ED25519_PUBLIC_KEY.encode(publicKey)))
+                .build();
+
+        // serves the key in place of the original verification method
+        final DocumentLoader loader = (url, options) -> METHOD.equals(url.toString())
+                ? JsonDocument.of(key)
+                : VcTestRunnerJunit.LOADER.loadDocument(url, options);
+
+        final MetricsRecorder metrics = new MetricsRecorder();
+
+        final Verifier verifier = Verifier.with(Ed25519Signature2020.builder().metrics(metrics).build())
+                .loader(loader);
+
+        assertThrows(error, () -> verifier.verify(document));
+        assertEquals(0, metrics.count(Stage.CANONICALIZATION));
+    }
+
+    @DisplayName("Proof set with an invalid proof")
+    @Test
+    void invalidProofSet() throws JsonLdError {
+
+        final JsonObject document = VcTestRunnerJunit.read("verifier/0001-in.jsonld");
+        final JsonObject proof = document.getJsonObject("proof");
+
+        final JsonObject invalid = Json.createObjectBuilder(document)
+                .add("proof", Json.createArrayBuilder()
+                        .add(proof)
+                        .add(Json.createObjectBuilder(proof).remove("created")))
+                .build();
+
+        final MetricsRecorder metrics = new MetricsRecorder();
+
+        final Verifier verifier = ParallelVerifier.with(Runnable::run, Ed25519Signature2020.builder().metrics(metrics).build())
+                .loader(VcTestRunnerJunit.LOADER);
+
+        assertThrows(DocumentError.class, () -> verifier.verify(invalid));
+        assertEquals(0, metrics.count(Stage.CANONICALIZATION));
+    }
+}
@@ -0,0 +1,43 @@
+package com.apicatalog.vc;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.net.URI;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.apicatalog.ld.DocumentError;
+import com.apicatalog.ld.signature.VerificationError;
+import com.apicatalog.ld.signature.ed25519.BoundedCache;
+import com.apicatalog.ld.signature.ed25519.Ed25519Signature2020;
+import com.apicatalog.vc.verifier.Verifier;
+
+@DisplayName("Proof Hash Cache")
+class VcProofHashCacheTest {
+
+    @DisplayName("Repeated verification")
+    @Test
+    void verifyRepeated() throws VerificationError, DocumentError {
+
+        final Ed25519Signature2020 suite = Ed25519Signature2020.builder()
+                .proofHashCache(new BoundedCache<>(16))
+                .build();
+
+        final Verifier verifier = Verifier.with(suite).loader(VcTestRunnerJunit.LOADER);
+
+        assertNotNull(verifier.verify(URI.create(VcTestCase.BASE + "verifier/0001-in.jsonld")));
+        assertNotNull(verifier.verify(URI.create(VcTestCase.BASE + "verifier/0001-in.jsonld")));
+
+        assertEquals(1, suite.proofHashCache().size());
+        assertEquals(1, suite.proofHashCache().hits());
+
+        // the same proof options, a forged credential subject
+        final VerificationError error = assertThrows(VerificationError.class,
+                () -> verifier.verify(URI.create(VcTestCase.BASE + "verifier/0002-in.jsonld")));
+
+        assertEquals(VerificationError.Code.InvalidSignature, error.getCode());
+    }
+}
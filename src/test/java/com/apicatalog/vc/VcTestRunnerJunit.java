@@ -16,6 +16,7 @@ import java.util.Objects;
 import com.apicatalog.jsonld.JsonLd;
 import com.apicatalog.jsonld.JsonLdError;
 import com.apicatalog.jsonld.document.Document;
+import com.apicatalog.jsonld.document.JsonDocument;
 import com.apicatalog.jsonld.json.JsonLdComparison;
 import com.apicatalog.jsonld.json.JsonUtils;
 import com.apicatalog.jsonld.loader.DocumentLoader;
@@ -229,4 +230,13 @@ public class VcTestRunnerJunit {
         throw new IllegalStateException();
     }
 
+    /**
+     * Reads a test resource relative to this package.
+     */
+    static final JsonObject read(String name) throws JsonLdError {
+        return JsonDocument.of(VcTestRunnerJunit.class.getResourceAsStream(name))
+                .getJsonContent()
+                .orElseThrow()
+                .asJsonObject();
+    }
 }
@@ -0,0 +1,87 @@
+package com.apicatalog.vc;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.Collections;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.apicatalog.ld.DocumentError;
+import com.apicatalog.ld.signature.VerificationError;
+import com.apicatalog.ld.signature.ed25519.BoundedCache;
+import com.apicatalog.ld.signature.ed25519.Ed25519KeyAdapter;
+import com.apicatalog.ld.signature.ed25519.Ed25519Signature2020;
+import com.apicatalog.ld.signature.key.VerificationKey;
+import com.apicatalog.vc.integrity.DataIntegrityVocab;
+import com.apicatalog.vc.verifier.Verifier;
+
+@DisplayName("Verification Cache")
+class VcVerificationCacheTest {
+
+    @DisplayName("Repeated verification")
+    @Test
+    void verifyRepeated() throws VerificationError, DocumentError {
+
+        final Ed25519Signature2020 suite = Ed25519Signature2020.builder()
+                .verificationCache(new BoundedCache<>(16, BoundedCache.Eviction.LRU, Duration.ofMinutes(5)))
+                .build();
+
+        final Verifier verifier = Verifier.with(suite).loader(VcTestRunnerJunit.LOADER);
+
+        assertNotNull(verifier.verify(URI.create(VcTestCase.BASE + "verifier/0001-in.jsonld")));
+        assertNotNull(verifier.verify(URI.create(VcTestCase.BASE + "verifier/0001-in.jsonld")));
+
+        assertEquals(1, suite.verificationCache().size());
+        assertEquals(1, suite.verificationCache().hits());
+
+        // runtime parameters are still validated
+        assertThrows(DocumentError.class, () -> verifier.verify(
+                URI.create(VcTestCase.BASE + "verifier/0001-in.jsonld"),
+                Collections.singletonMap(DataIntegrityVocab.CHALLENGE.name(), "1f44d55f-f161-4938-a659-f8026467f126")));
+
+        // a forged credential subject is not served from the cache
+        final VerificationError error = assertThrows(VerificationError.class,
+                () -> verifier.verify(URI.create(VcTestCase.BASE + "verifier/0002-in.jsonld")));
+
+        assertEquals(VerificationError.Code.InvalidSignature, error.getCode());
+        assertEquals(1, suite.verificationCache().size());
+    }
+
+    @DisplayName("Decoded verification methods")
+    @Test
+    void methodCache() throws VerificationError, DocumentError {
+
+        final Ed25519Signature2020 suite = Ed25519Signature2020.builder()
+                .methodCache(new BoundedCache<>(16))
+                .build();
+
+        final Verifier verifier = Verifier.with(suite).loader(VcTestRunnerJunit.LOADER);
+
+        assertNotNull(verifier.verify(URI.create(VcTestCase.BASE + "verifier/0001-in.jsonld")));
+        assertNotNull(verifier.verify(URI.create(VcTestCase.BASE + "verifier/0001-in.jsonld")));
+
+        assertEquals(1, suite.methodCache().size());
+        assertEquals(1, suite.methodCache().hits());
+
+        final VerificationKey key = (VerificationKey) suite.methodCache().get(new Ed25519KeyAdapter.MethodKey(
+                "https://github.com/filip26/iron-verifiable-credentials/verifier/0005-verification-key.json",
+                "https://github.com/filip26/iron-verifiable-credentials/issuer/1",
+                "z6Mkska8oQD7QQQWxqa7L5ai4mH98HfAdSwomPFYKuqNyE2y"));
+
+        assertNotNull(key);
+
+        // a shared key cannot be modified
+        key.publicKey()[0] ^= 1;
+
+        assertNotNull(verifier.verify(URI.create(VcTestCase.BASE + "verifier/0001-in.jsonld")));
+
+        // a cached key does not bypass signature verification
+        assertThrows(VerificationError.class,
+                () -> verifier.verify(URI.create(VcTestCase.BASE + "verifier/0002-in.jsonld")));
+    }
+}